@@ -0,0 +1,84 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scans of the finished games archive with the same scans of a list holding one object per finished game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArchiveBenchmark {
+
+    private static final int TEAM_PAIRS = 32;
+
+    @Param({"100000", "1000000"})
+    public int finishedGames;
+
+    private FinishedGamesArchive archive;
+
+    private List<FinishedGamesArchive.FinishedGame> finishedGameObjects;
+
+    private String team;
+
+    private Instant today;
+
+    private Instant tomorrow;
+
+    @Setup
+    public void setUp() {
+        final ScoreBoard scoreBoard = new ScoreBoard();
+
+        for (int i = 0; i < finishedGames; i++) {
+            final String homeTeam = BenchmarkTeams.name(2 * (i % TEAM_PAIRS));
+            final String awayTeam = BenchmarkTeams.name(2 * (i % TEAM_PAIRS) + 1);
+
+            scoreBoard.startGame(homeTeam, awayTeam);
+            scoreBoard.updateScore(homeTeam, awayTeam, i % 4, i % 3);
+            scoreBoard.finishGame(homeTeam, awayTeam);
+        }
+
+        archive = scoreBoard.getArchive();
+        finishedGameObjects = new ArrayList<>(finishedGames);
+        for (long i = 0; i < archive.size(); i++) {
+            finishedGameObjects.add(archive.get(i));
+        }
+
+        team = BenchmarkTeams.name(0);
+        today = Instant.now().truncatedTo(ChronoUnit.DAYS);
+        tomorrow = today.plus(1, ChronoUnit.DAYS);
+    }
+
+    @Benchmark
+    public List<FinishedGamesArchive.FinishedGame> archiveResultsOfTeam() {
+        return archive.getResultsOf(team);
+    }
+
+    @Benchmark
+    public List<FinishedGamesArchive.FinishedGame> objectResultsOfTeam() {
+        return finishedGameObjects.stream()
+                .filter(game -> game.homeTeam().equals(team) || game.awayTeam().equals(team))
+                .toList();
+    }
+
+    @Benchmark
+    public long archiveGoalsToday() {
+        return archive.getTotalGoals(today, tomorrow);
+    }
+
+    @Benchmark
+    public long objectGoalsToday() {
+        return finishedGameObjects.stream()
+                .filter(game -> !game.finishTime().isBefore(today) && game.finishTime().isBefore(tomorrow))
+                .mapToLong(FinishedGamesArchive.FinishedGame::totalScore)
+                .sum();
+    }
+}
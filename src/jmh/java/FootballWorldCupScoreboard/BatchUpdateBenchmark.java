@@ -0,0 +1,64 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares applying a burst of score updates one call at a time with applying it as one batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchUpdateBenchmark {
+
+    @Param({"100", "10000"})
+    public int activeGames;
+
+    @Param({"500"})
+    public int batchSize;
+
+    private ScoreBoard scoreBoard;
+
+    private final List<List<ScoreEvent.ScoreUpdated>> batches = new ArrayList<>();
+
+    private int nextBatch;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(activeGames);
+
+        // Two alternating batches, so every update changes the score and the summary order
+        for (int round = 0; round < 2; round++) {
+            final List<ScoreEvent.ScoreUpdated> batch = new ArrayList<>(batchSize);
+
+            for (int i = 0; i < batchSize; i++) {
+                final int game = (i * 7919) % activeGames;
+                batch.add(new ScoreEvent.ScoreUpdated(BenchmarkTeams.name(2 * game), BenchmarkTeams.name(2 * game + 1),
+                        round + i % 3, round));
+            }
+            batches.add(batch);
+        }
+    }
+
+    @Benchmark
+    public void perCallUpdates() {
+        for (ScoreEvent.ScoreUpdated update : nextBatch()) {
+            scoreBoard.updateScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+        }
+    }
+
+    @Benchmark
+    public void batchUpdate() {
+        scoreBoard.applyAll(nextBatch());
+    }
+
+    private List<ScoreEvent.ScoreUpdated> nextBatch() {
+        nextBatch ^= 1;
+        return batches.get(nextBatch);
+    }
+}
@@ -0,0 +1,44 @@
+package FootballWorldCupScoreboard;
+
+/**
+ * Generates distinct, letters-only team names so benchmarks can fill a scoreboard with any number of games.
+ */
+final class BenchmarkTeams {
+
+    private BenchmarkTeams() {
+    }
+
+    private static final int NAME_LENGTH = 6;
+
+    private static final char FIRST_LETTER = 'J';
+
+    private static final int LETTERS = 'Z' - FIRST_LETTER + 1;
+
+    /**
+     * Encodes the index as a fixed-width base-17 number written with the letters J-Z. Fixed width and letters with
+     * two-digit alphabet positions keep generated game IDs from colliding.
+     */
+    static String name(int index) {
+        final char[] name = new char[NAME_LENGTH];
+        int remaining = index;
+
+        for (int i = NAME_LENGTH - 1; i >= 0; i--) {
+            name[i] = (char) (FIRST_LETTER + remaining % LETTERS);
+            remaining /= LETTERS;
+        }
+        return new String(name);
+    }
+
+    /**
+     * Returns a scoreboard with the given number of games in progress, game {@code i} played by teams
+     * {@code name(2 * i)} and {@code name(2 * i + 1)}.
+     */
+    static ScoreBoard boardWithGames(int activeGames) {
+        final ScoreBoard scoreBoard = new ScoreBoard();
+
+        for (int i = 0; i < activeGames; i++) {
+            scoreBoard.startGame(name(2 * i), name(2 * i + 1));
+        }
+        return scoreBoard;
+    }
+}
@@ -0,0 +1,50 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares pre-loading a tournament day of fixtures onto an empty board with a {@code startGame} loop against one
+ * {@code startGames} call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FixtureLoadBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int fixtureCount;
+
+    private List<Fixture> fixtures;
+
+    @Setup
+    public void setUp() {
+        fixtures = new ArrayList<>(fixtureCount);
+
+        for (int i = 0; i < fixtureCount; i++) {
+            fixtures.add(new Fixture(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1)));
+        }
+    }
+
+    @Benchmark
+    public ScoreBoard startGameLoop() {
+        final ScoreBoard scoreBoard = new ScoreBoard();
+
+        for (Fixture fixture : fixtures) {
+            scoreBoard.startGame(fixture.homeTeam(), fixture.awayTeam());
+        }
+        return scoreBoard;
+    }
+
+    @Benchmark
+    public ScoreBoard startGames() {
+        final ScoreBoard scoreBoard = new ScoreBoard();
+        scoreBoard.startGames(fixtures);
+        return scoreBoard;
+    }
+}
@@ -0,0 +1,74 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the string game IDs the scoreboard used to generate with the packed team-ordinal IDs.
+ * Run with {@code -prof gc} to see the allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GameIdBenchmark {
+
+    private static final String HOME_TEAM = "Argentina";
+
+    private static final String AWAY_TEAM = "Australia";
+
+    private TeamRegistry teams;
+
+    private ScoreBoard scoreBoard;
+
+    private int goals;
+
+    @Setup
+    public void setUp() {
+        teams = new TeamRegistry();
+        for (int i = 0; i < 64; i++) {
+            teams.register(BenchmarkTeams.name(i));
+        }
+        teams.register(HOME_TEAM);
+        teams.register(AWAY_TEAM);
+
+        scoreBoard = BenchmarkTeams.boardWithGames(32);
+        scoreBoard.startGame(HOME_TEAM, AWAY_TEAM);
+    }
+
+    @Benchmark
+    public String legacyStringId() {
+        return legacyGameId(HOME_TEAM, AWAY_TEAM);
+    }
+
+    @Benchmark
+    public long packedOrdinalId() {
+        return UniqueGameIdGenerator.generateUniqueGameId(teams.ordinalOf(HOME_TEAM), teams.ordinalOf(AWAY_TEAM));
+    }
+
+    @Benchmark
+    public void updateScore() {
+        goals = (goals + 1) & 7;
+        scoreBoard.updateScore(HOME_TEAM, AWAY_TEAM, goals, goals);
+    }
+
+    /**
+     * The string ID generation the scoreboard used before team ordinals, kept as the baseline.
+     */
+    private static String legacyGameId(String homeTeam, String awayTeam) {
+        final String[] teams = {homeTeam.toUpperCase(), awayTeam.toUpperCase()};
+        Arrays.sort(teams);
+        final String combinedTeams = teams[0] + teams[1];
+        final StringBuilder idBuilder = new StringBuilder();
+
+        for (char c : combinedTeams.toCharArray()) {
+            if (Character.isLetter(c)) {
+                idBuilder.append(Character.toUpperCase(c) - 'A' + 1);
+            }
+        }
+        return idBuilder.toString().trim();
+    }
+}
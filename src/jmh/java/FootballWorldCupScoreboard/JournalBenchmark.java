@@ -0,0 +1,73 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures what journaling adds to a score update: {@code none} keeps the board in memory, {@code groupCommit}
+ * journals with a 10 ms group commit and {@code sync} fsyncs every update.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JournalBenchmark {
+
+    private static final Executor NO_SUBSCRIBERS = Runnable::run;
+
+    @Param({"none", "groupCommit", "sync"})
+    public String journaling;
+
+    private Path directory;
+
+    private ScoreEventJournal journal;
+
+    private ScoreBoard scoreBoard;
+
+    private final String homeTeam = BenchmarkTeams.name(0);
+
+    private final String awayTeam = BenchmarkTeams.name(1);
+
+    private int goals;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (journaling.equals("none")) {
+            scoreBoard = new ScoreBoard(NO_SUBSCRIBERS);
+        } else {
+            directory = Files.createTempDirectory("scoreboard-journal");
+            journal = ScoreEventJournal.open(directory,
+                    journaling.equals("sync") ? Duration.ZERO : Duration.ofMillis(10));
+            scoreBoard = new ScoreBoard(NO_SUBSCRIBERS, journal);
+        }
+        scoreBoard.startGame(homeTeam, awayTeam);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void updateScore() {
+        goals = (goals + 1) & 7;
+        scoreBoard.updateScore(homeTeam, awayTeam, goals, 0);
+    }
+}
@@ -0,0 +1,69 @@
+package FootballWorldCupScoreboard;
+
+import java.util.function.IntFunction;
+
+/**
+ * Prints the heap retained per game by {@link ScoreBoard} and {@link PrimitiveScoreBoard}. Not a JMH benchmark,
+ * since JMH measures time and allocation rate rather than retained memory:
+ * <pre>
+ * mvn -Pjmh test-compile
+ * java -cp target/classes:target/test-classes FootballWorldCupScoreboard.MemoryFootprint 1000000
+ * </pre>
+ */
+final class MemoryFootprint {
+
+    private static final int DEFAULT_GAMES = 1_000_000;
+
+    private MemoryFootprint() {
+    }
+
+    public static void main(String[] args) {
+        final int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+
+        // Team names are shared by both boards, so they are created before the baseline is measured
+        final String[] teams = new String[2 * games];
+        for (int i = 0; i < teams.length; i++) {
+            teams[i] = BenchmarkTeams.name(i);
+        }
+
+        report("ScoreBoard", games, count -> {
+            final ScoreBoard scoreBoard = new ScoreBoard();
+            for (int i = 0; i < count; i++) {
+                scoreBoard.startGame(teams[2 * i], teams[2 * i + 1]);
+            }
+            return scoreBoard;
+        });
+        report("PrimitiveScoreBoard", games, count -> {
+            final PrimitiveScoreBoard scoreBoard = new PrimitiveScoreBoard();
+            for (int i = 0; i < count; i++) {
+                scoreBoard.startGame(teams[2 * i], teams[2 * i + 1]);
+            }
+            return scoreBoard;
+        });
+    }
+
+    private static void report(String name, int games, IntFunction<Object> boardFactory) {
+        final long before = usedHeap();
+        final Object board = boardFactory.apply(games);
+        final long after = usedHeap();
+
+        System.out.printf("%-20s %,d games: %,d bytes, %.1f bytes per game%n", name, games, after - before,
+                (double) (after - before) / games);
+        // Keeps the board reachable until it has been measured
+        if (board.hashCode() == 0) {
+            System.out.println();
+        }
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+
+        // Repeated collections let the heap settle, the smallest reading is the closest to the live set
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,49 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what {@link ScoreBoard#enableMetrics()} adds to a score update and to a cached summary read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MetricsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean metricsEnabled;
+
+    private ScoreBoard scoreBoard;
+
+    private String homeTeam;
+
+    private String awayTeam;
+
+    private int goals;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(1000);
+        homeTeam = BenchmarkTeams.name(0);
+        awayTeam = BenchmarkTeams.name(1);
+
+        if (metricsEnabled) {
+            scoreBoard.enableMetrics();
+        }
+    }
+
+    @Benchmark
+    public void updateScore() {
+        goals = (goals + 1) & 7;
+        scoreBoard.updateScore(homeTeam, awayTeam, goals, 0);
+    }
+
+    @Benchmark
+    public Object cachedSummary() {
+        return scoreBoard.getSummaryByTotalScore();
+    }
+}
@@ -0,0 +1,52 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares finding the few games with a high total score through the ranked index with filtering the full summary,
+ * right after a score change so the summary cannot be served from its cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QueryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int activeGames;
+
+    private ScoreBoard scoreBoard;
+
+    private int goals;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(activeGames);
+
+        // One game in a hundred has five goals or more
+        for (int i = 0; i < activeGames; i += 100) {
+            scoreBoard.updateScore(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1), 3, 2);
+        }
+    }
+
+    @Benchmark
+    public List<Game> totalScoreRange() {
+        changeScore();
+        return scoreBoard.getGamesByTotalScore(5, Integer.MAX_VALUE);
+    }
+
+    @Benchmark
+    public List<Game> filteredSummary() {
+        changeScore();
+        return scoreBoard.getSummaryByTotalScore().stream().filter(game -> game.getTotalScore() >= 5).toList();
+    }
+
+    private void changeScore() {
+        goals = (goals + 1) & 3;
+        scoreBoard.updateScore(BenchmarkTeams.name(2), BenchmarkTeams.name(3), goals, 0);
+    }
+}
@@ -0,0 +1,118 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures boards shared by writer and reader threads. Every benchmark is a group of one writer method and one
+ * reader method; the number of threads running each is set with {@code -tg writers,readers}, for example
+ * {@code -tg 1,7} for one feed and seven request threads.
+ * <p>
+ * {@link ScoreBoard} takes a single writer, so its group must keep one writer thread; its readers follow the board
+ * through snapshots. {@link ConcurrentScoreBoard} takes any number of writers, each updating its own games.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ReadWriteMixBenchmark {
+
+    @Param({"100", "10000"})
+    public int activeGames;
+
+    private ScoreBoard scoreBoard;
+
+    private ConcurrentScoreBoard concurrentScoreBoard;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(activeGames);
+        concurrentScoreBoard = new ConcurrentScoreBoard();
+
+        for (int i = 0; i < activeGames; i++) {
+            concurrentScoreBoard.startGame(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1));
+        }
+    }
+
+    /**
+     * Games a writer thread updates in turn: writer {@code w} of {@code n} updates games {@code w}, {@code w + n},
+     * and so on, so writers never update the same game.
+     */
+    @State(Scope.Thread)
+    public static class WriterGames {
+
+        private String[] homeTeams;
+
+        private String[] awayTeams;
+
+        private int next;
+
+        private int goals;
+
+        @Setup
+        public void setUp(ReadWriteMixBenchmark benchmark, ThreadParams threadParams) {
+            final int writers = threadParams.getSubgroupThreadCount();
+            final int writer = threadParams.getSubgroupThreadIndex();
+            final int games = Math.max(1, (benchmark.activeGames - writer + writers - 1) / writers);
+
+            homeTeams = new String[games];
+            awayTeams = new String[games];
+            for (int i = 0; i < games; i++) {
+                final int game = Math.min(writer + i * writers, benchmark.activeGames - 1);
+                homeTeams[i] = BenchmarkTeams.name(2 * game);
+                awayTeams[i] = BenchmarkTeams.name(2 * game + 1);
+            }
+        }
+
+        private void update(ScoreBoard scoreBoard) {
+            scoreBoard.updateScore(homeTeams[next], awayTeams[next], nextGoals(), 0);
+            advance();
+        }
+
+        private void update(ConcurrentScoreBoard scoreBoard) {
+            scoreBoard.updateScore(homeTeams[next], awayTeams[next], nextGoals(), 0);
+            advance();
+        }
+
+        private int nextGoals() {
+            goals = (goals + 1) & 7;
+            return goals;
+        }
+
+        private void advance() {
+            next = next + 1 == homeTeams.length ? 0 : next + 1;
+        }
+    }
+
+    @Benchmark
+    @Group("scoreBoard")
+    @GroupThreads(1)
+    public void scoreBoardWrite(WriterGames writerGames) {
+        writerGames.update(scoreBoard);
+    }
+
+    @Benchmark
+    @Group("scoreBoard")
+    @GroupThreads(3)
+    public ScoreBoardSnapshot scoreBoardRead() {
+        return scoreBoard.getSnapshot();
+    }
+
+    @Benchmark
+    @Group("concurrentScoreBoard")
+    @GroupThreads(1)
+    public void concurrentScoreBoardWrite(WriterGames writerGames) {
+        writerGames.update(concurrentScoreBoard);
+    }
+
+    @Benchmark
+    @Group("concurrentScoreBoard")
+    @GroupThreads(3)
+    public List<Game> concurrentScoreBoardRead() {
+        return concurrentScoreBoard.getTopByTotalScore(10);
+    }
+}
@@ -0,0 +1,72 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures how long it takes to rebuild a board from its journal, by replaying every event or by loading a
+ * checkpoint and replaying only the events journaled after it. Each game is started and scored once, then a tail
+ * of updates is journaled after the optional checkpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecoveryBenchmark {
+
+    private static final int TAIL_UPDATES = 1000;
+
+    @Param({"100000"})
+    public int activeGames;
+
+    @Param({"false", "true"})
+    public boolean checkpointed;
+
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("scoreboard-journal");
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(directory, Duration.ofMillis(10))) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+
+            for (int i = 0; i < activeGames; i++) {
+                scoreBoard.startGame(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1));
+                scoreBoard.updateScore(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1), i % 5, i % 3);
+            }
+
+            if (checkpointed) {
+                scoreBoard.checkpoint();
+            }
+
+            for (int i = 0; i < TAIL_UPDATES; i++) {
+                scoreBoard.updateScore(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1), 9, 9);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public ScoreBoard recover() throws IOException {
+        try (ScoreEventJournal journal = ScoreEventJournal.open(directory, Duration.ofMillis(10))) {
+            return new ScoreBoard(Runnable::run, journal);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rejecting a score update of a game that is no longer on the board through an exception and through the
+ * status returned by {@link ScoreBoard#tryUpdateScore}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RejectedUpdateBenchmark {
+
+    private ScoreBoard scoreBoard;
+
+    private String homeTeam;
+
+    private String awayTeam;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(1000);
+        homeTeam = BenchmarkTeams.name(0);
+        awayTeam = BenchmarkTeams.name(1);
+        scoreBoard.finishGame(homeTeam, awayTeam);
+    }
+
+    @Benchmark
+    public Object updateScoreThrowing() {
+        try {
+            scoreBoard.updateScore(homeTeam, awayTeam, 1, 0);
+            return null;
+        } catch (IllegalArgumentException exception) {
+            return exception;
+        }
+    }
+
+    @Benchmark
+    public ScoreBoardStatus tryUpdateScore() {
+        return scoreBoard.tryUpdateScore(homeTeam, awayTeam, 1, 0);
+    }
+}
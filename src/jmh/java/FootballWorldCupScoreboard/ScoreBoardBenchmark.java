@@ -0,0 +1,61 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the single-threaded operations of {@link ScoreBoard} on boards of growing size: score updates, the
+ * summary after a score change and finishing a game, which is started again in the same invocation so the board
+ * keeps its size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ScoreBoardBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int activeGames;
+
+    private ScoreBoard scoreBoard;
+
+    private String homeTeam;
+
+    private String awayTeam;
+
+    private int goals;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(activeGames);
+        homeTeam = BenchmarkTeams.name(0);
+        awayTeam = BenchmarkTeams.name(1);
+    }
+
+    @Benchmark
+    public void updateScore() {
+        goals = (goals + 1) & 7;
+        scoreBoard.updateScore(homeTeam, awayTeam, goals, 0);
+    }
+
+    @Benchmark
+    public void finishAndRestartGame() {
+        scoreBoard.finishGame(homeTeam, awayTeam);
+        scoreBoard.startGame(homeTeam, awayTeam);
+    }
+
+    @Benchmark
+    public List<Game> summaryAfterUpdate() {
+        updateScore();
+        return scoreBoard.getSummaryByTotalScore();
+    }
+
+    @Benchmark
+    public ScoreBoardSnapshot snapshotAfterUpdate() {
+        updateScore();
+        return scoreBoard.getSnapshot();
+    }
+}
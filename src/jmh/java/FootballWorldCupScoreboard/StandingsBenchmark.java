@@ -0,0 +1,88 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a group's table kept up to date by the board with recomputing it from every game on the board,
+ * right after a goal in the group.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StandingsBenchmark {
+
+    private static final String GROUP = "A";
+
+    @Param({"1000", "100000"})
+    public int activeGames;
+
+    private ScoreBoard scoreBoard;
+
+    private List<String> groupTeams;
+
+    private int goals;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(activeGames);
+        groupTeams = List.of(BenchmarkTeams.name(0), BenchmarkTeams.name(1), BenchmarkTeams.name(2),
+                BenchmarkTeams.name(3));
+        scoreBoard.addGroup(GROUP, groupTeams);
+    }
+
+    @Benchmark
+    public List<GroupStandings.Standing> liveTable() {
+        score();
+        return scoreBoard.getStandings().getTable(GROUP);
+    }
+
+    @Benchmark
+    public List<GroupStandings.Standing> recomputedTable() {
+        score();
+
+        final Map<String, int[]> totals = new HashMap<>();
+        for (String team : groupTeams) {
+            totals.put(team, new int[4]);
+        }
+        for (Game game : scoreBoard.getGames()) {
+            final int[] home = totals.get(game.getHomeTeam());
+            final int[] away = totals.get(game.getAwayTeam());
+
+            if (home != null && away != null) {
+                count(home, game.getHomeScore(), game.getAwayScore());
+                count(away, game.getAwayScore(), game.getHomeScore());
+            }
+        }
+
+        final List<GroupStandings.Standing> table = new ArrayList<>();
+        totals.forEach((team, total) -> table.add(new GroupStandings.Standing(team, total[3], 0, 0, 0, total[1],
+                total[2], total[0])));
+        table.sort((first, second) -> first.points() != second.points()
+                ? Integer.compare(second.points(), first.points())
+                : Integer.compare(second.goalDifference(), first.goalDifference()));
+        return table;
+    }
+
+    private void score() {
+        goals = (goals + 1) & 3;
+        scoreBoard.updateScore(BenchmarkTeams.name(0), BenchmarkTeams.name(1), goals, 1);
+    }
+
+    /**
+     * Adds the result to the team's points, goals scored, goals conceded and games played.
+     */
+    private static void count(int[] total, int scored, int conceded) {
+        total[0] += scored > conceded ? 3 : scored == conceded ? 1 : 0;
+        total[1] += scored;
+        total[2] += conceded;
+        total[3]++;
+    }
+}
@@ -0,0 +1,39 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of starting a game on boards of growing size. The game is finished again in the same
+ * invocation so the board keeps its size; with the team index both steps should stay flat as the board grows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StartGameBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int activeGames;
+
+    private ScoreBoard scoreBoard;
+
+    private String homeTeam;
+
+    private String awayTeam;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(activeGames);
+        homeTeam = BenchmarkTeams.name(2 * activeGames);
+        awayTeam = BenchmarkTeams.name(2 * activeGames + 1);
+    }
+
+    @Benchmark
+    public void startAndFinishGame() {
+        scoreBoard.startGame(homeTeam, awayTeam);
+        scoreBoard.finishGame(homeTeam, awayTeam);
+    }
+}
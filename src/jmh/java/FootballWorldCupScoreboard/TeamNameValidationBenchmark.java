@@ -0,0 +1,69 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the team-name validation done when a game is started: the regex and {@code trim()} checks the
+ * scoreboard used before, and the single character scan with allocation-free trimming. {@code fixtureImport}
+ * starts games between teams the board has never seen, like a fixture import does. Run with {@code -prof gc} to see
+ * the allocation per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TeamNameValidationBenchmark {
+
+    private static final String LEGACY_TEAM_NAME_PATTERN = "[a-zA-Z]+";
+
+    private static final String HOME_TEAM = "Argentina";
+
+    private static final String AWAY_TEAM = "Australia";
+
+    private static final int FIXTURE_GAMES = 10_000;
+
+    private String[] fixtureTeams;
+
+    private ScoreBoard scoreBoard;
+
+    private int nextGame;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        fixtureTeams = new String[2 * FIXTURE_GAMES];
+        for (int i = 0; i < fixtureTeams.length; i++) {
+            fixtureTeams[i] = BenchmarkTeams.name(i);
+        }
+        scoreBoard = new ScoreBoard(Runnable::run);
+        nextGame = 0;
+    }
+
+    @Benchmark
+    public boolean legacyValidation() {
+        return HOME_TEAM.matches(LEGACY_TEAM_NAME_PATTERN) && AWAY_TEAM.matches(LEGACY_TEAM_NAME_PATTERN)
+                && !HOME_TEAM.trim().isEmpty() && !AWAY_TEAM.trim().isEmpty()
+                && HOME_TEAM.trim().length() <= 35 && AWAY_TEAM.trim().length() <= 35;
+    }
+
+    @Benchmark
+    public boolean validation() {
+        Game.validateTeams(HOME_TEAM, AWAY_TEAM);
+        return ScoreBoard.isLettersOnly(HOME_TEAM) && ScoreBoard.isLettersOnly(AWAY_TEAM);
+    }
+
+    /**
+     * Starts the next game of the fixture, beginning a new board once all fixture games are in progress.
+     */
+    @Benchmark
+    public void fixtureImport() {
+        if (nextGame == FIXTURE_GAMES) {
+            scoreBoard = new ScoreBoard(Runnable::run);
+            nextGame = 0;
+        }
+        scoreBoard.startGame(fixtureTeams[2 * nextGame], fixtureTeams[2 * nextGame + 1]);
+        nextGame++;
+    }
+}
@@ -0,0 +1,69 @@
+package FootballWorldCupScoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the top games with reading the full summary right after a score change, so neither read can
+ * be served from a summary cached before the change.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TopGamesBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int activeGames;
+
+    @Param({"10"})
+    public int k;
+
+    private ScoreBoard scoreBoard;
+
+    private ConcurrentScoreBoard concurrentScoreBoard;
+
+    private int goals;
+
+    @Setup
+    public void setUp() {
+        scoreBoard = BenchmarkTeams.boardWithGames(activeGames);
+        concurrentScoreBoard = new ConcurrentScoreBoard();
+
+        for (int i = 0; i < activeGames; i++) {
+            scoreBoard.updateScore(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1), i % 5, i % 3);
+            concurrentScoreBoard.startGame(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1));
+            concurrentScoreBoard.updateScore(BenchmarkTeams.name(2 * i), BenchmarkTeams.name(2 * i + 1), i % 5, i % 3);
+        }
+    }
+
+    @Benchmark
+    public List<Game> fullSummary() {
+        changeScore();
+        return scoreBoard.getSummaryByTotalScore();
+    }
+
+    @Benchmark
+    public List<Game> topGames() {
+        changeScore();
+        return scoreBoard.getTopByTotalScore(k);
+    }
+
+    @Benchmark
+    public List<Game> concurrentFullSummary() {
+        return concurrentScoreBoard.getSummaryByTotalScore();
+    }
+
+    @Benchmark
+    public List<Game> concurrentTopGames() {
+        return concurrentScoreBoard.getTopByTotalScore(k);
+    }
+
+    private void changeScore() {
+        goals = (goals + 1) & 7;
+        scoreBoard.updateScore(BenchmarkTeams.name(0), BenchmarkTeams.name(1), goals, 0);
+    }
+}
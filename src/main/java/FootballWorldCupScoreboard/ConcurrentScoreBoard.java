@@ -0,0 +1,413 @@
+package FootballWorldCupScoreboard;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static FootballWorldCupScoreboard.ScoreBoard.*;
+
+/**
+ * Thread-safe variant of {@link ScoreBoard} for boards that are written by many feed threads and read by many
+ * request threads at the same time.
+ * <p>
+ * Starting and finishing a game changes which teams are busy, so those two operations are serialized by one lock,
+ * which keeps the duplicate-game and busy-team checks atomic with the change. Score updates only look the game up
+ * by team ordinal and swap the game's score word lock-free, so updates of different games never contend with
+ * each other or with starting and finishing games. Summaries are read without taking any lock and checked against
+ * counters of the changes writers began and completed, so they are a point-in-time view of the board while writers
+ * never wait for readers, see {@link #getSnapshot()}.
+ */
+public class ConcurrentScoreBoard {
+
+    /**
+     * Summary order of {@link ScoreBoard}, applied to the scores read while building the summary.
+     */
+    private static final Comparator<RankedGame> SUMMARY_ORDER = (first, second) -> {
+        if (first.totalScore() != second.totalScore()) {
+            return Integer.compare(second.totalScore(), first.totalScore());
+        }
+        return Long.compare(second.game().startSequence, first.game().startSequence);
+    };
+
+    /**
+     * Number of times a summary is read again because writers changed the board meanwhile, before the latest summary
+     * read consistently is returned instead.
+     */
+    static final int SUMMARY_ATTEMPTS = 16;
+
+    /**
+     * Team dictionary, registered into under {@link #structureLock} and read by lookups without any lock.
+     */
+    private final TeamRegistry teams = new TeamRegistry();
+
+    /**
+     * Game each team is currently playing, indexed by the team's registry ordinal. Written under
+     * {@link #structureLock} and replaced by a larger copy when a new ordinal does not fit.
+     */
+    private volatile AtomicReferenceArray<Game> gamesByTeam = new AtomicReferenceArray<>(16);
+
+    private final Set<Game> games = ConcurrentHashMap.newKeySet();
+
+    private final GamesView gamesView = new BoardGamesView();
+
+    private final ReentrantLock structureLock = new ReentrantLock();
+
+    /**
+     * Changes writers began and completed. Both are counted on striped cells, so writers of different games do not
+     * contend on them, and a change is counted as begun before it is made and as completed after.
+     */
+    private final LongAdder changesBegun = new LongAdder();
+
+    private final LongAdder changesCompleted = new LongAdder();
+
+    /**
+     * Games started and finished so far, changed under {@link #structureLock} while a change is in progress.
+     */
+    private volatile long structureChanges;
+
+    /**
+     * Latest summary read while no change was in progress, replaced only by a summary of a later version.
+     */
+    private final AtomicReference<Summary> summary = new AtomicReference<>(Summary.EMPTY);
+
+    private long nextStartSequence;
+
+    public void startGame(String homeTeam, String awayTeam) {
+        structureLock.lock();
+        try {
+            validateGameStartConditions(homeTeam, awayTeam);
+
+            final int homeTeamOrdinal = teams.register(homeTeam);
+            final int awayTeamOrdinal = teams.register(awayTeam);
+            final Game game = new Game(teams.intern(homeTeamOrdinal, homeTeam), teams.intern(awayTeamOrdinal, awayTeam),
+                    homeTeamOrdinal, awayTeamOrdinal, nextStartSequence++);
+
+            ensureTeamCapacity(Math.max(homeTeamOrdinal, awayTeamOrdinal));
+            changesBegun.increment();
+            gamesByTeam.set(homeTeamOrdinal, game);
+            gamesByTeam.set(awayTeamOrdinal, game);
+            games.add(game);
+            structureChanges++;
+            changesCompleted.increment();
+        } finally {
+            structureLock.unlock();
+        }
+    }
+
+    public void finishGame(String homeTeam, String awayTeam) {
+        structureLock.lock();
+        try {
+            final Game game = findGame(homeTeam, awayTeam);
+
+            if (game == null) {
+                throw new IllegalArgumentException(GAME_NOT_FOUND_ERROR);
+            }
+
+            changesBegun.increment();
+            games.remove(game);
+            gamesByTeam.set(game.homeTeamOrdinal, null);
+            gamesByTeam.set(game.awayTeamOrdinal, null);
+            structureChanges++;
+            changesCompleted.increment();
+        } finally {
+            structureLock.unlock();
+        }
+    }
+
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final Game game = findGame(homeTeam, awayTeam);
+
+        if (game == null) {
+            throw new IllegalArgumentException(GAME_NOT_FOUND_ERROR);
+        }
+
+        changesBegun.increment();
+        try {
+            game.updateScore(homeScore, awayScore);
+        } finally {
+            changesCompleted.increment();
+        }
+    }
+
+    /**
+     * Updates the score only if the game currently has the expected score, for example to drop a feed message that
+     * was sent for an older score.
+     *
+     * @return {@code true} if the score was updated, {@code false} if the current score differs from the expected one.
+     */
+    public boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore, int expectedAwayScore,
+                                      int homeScore, int awayScore) {
+        final Game game = findGame(homeTeam, awayTeam);
+
+        if (game == null) {
+            throw new IllegalArgumentException(GAME_NOT_FOUND_ERROR);
+        }
+
+        changesBegun.increment();
+        try {
+            return game.compareAndSetScore(expectedHomeScore, expectedAwayScore, homeScore, awayScore);
+        } finally {
+            changesCompleted.increment();
+        }
+    }
+
+    /**
+     * Updates the score only if the sequence number is higher than that of every update already applied to the game
+     * with one, like {@link ScoreBoard#tryUpdateScore(String, String, long, int, int)}. Redundant feeds can call it
+     * from their own threads for every update, and whichever copy arrives first is applied. Rejected updates are
+     * reported through the returned status instead of throwing.
+     *
+     * @return {@link ScoreBoardStatus#OK} if the score was updated, otherwise
+     * {@link ScoreBoardStatus#GAME_NOT_FOUND}, {@link ScoreBoardStatus#INVALID_SCORE} or
+     * {@link ScoreBoardStatus#STALE_UPDATE}.
+     */
+    public ScoreBoardStatus tryUpdateScore(String homeTeam, String awayTeam, long sequence, int homeScore,
+                                           int awayScore) {
+        final Game game = findGame(homeTeam, awayTeam);
+
+        if (game == null) {
+            return ScoreBoardStatus.GAME_NOT_FOUND;
+        }
+
+        if (!Game.isValidScore(homeScore, awayScore)) {
+            return ScoreBoardStatus.INVALID_SCORE;
+        }
+
+        changesBegun.increment();
+        try {
+            return game.updateScoreIfNewer(sequence, homeScore, awayScore) ? ScoreBoardStatus.OK
+                    : ScoreBoardStatus.STALE_UPDATE;
+        } finally {
+            changesCompleted.increment();
+        }
+    }
+
+    /**
+     * Returns the games ordered by total score, most recently started first on ties, in the order of
+     * {@link #getSnapshot()}. The order is that of one instant, but the games are live, so their scores may have
+     * moved on by the time they are read; the snapshot holds the scores the order was built from.
+     */
+    public List<Game> getSummaryByTotalScore() {
+        return readSummary().games();
+    }
+
+    /**
+     * Returns the first {@code k} games of {@link #getSummaryByTotalScore()}, with the same order and tie-breaking.
+     */
+    public List<Game> getTopByTotalScore(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException(NEGATIVE_LIMIT_ERROR);
+        }
+
+        final List<Game> summary = getSummaryByTotalScore();
+        return summary.subList(0, Math.min(k, summary.size()));
+    }
+
+    /**
+     * Returns an immutable snapshot of the summary in which every game's score is the one it had at the same instant.
+     * <p>
+     * Writers never wait for it: the scores are read between two reads of the writers' change counters, and read
+     * again if a change was in progress or completed meanwhile. While the board is unchanged every caller gets the same
+     * snapshot without reading the games, and a new snapshot starts from the order of the previous one, so sorting it
+     * costs little more than a pass over the games when few of them changed. If writers change the board during
+     * {@value #SUMMARY_ATTEMPTS} reads in a row, the latest snapshot read consistently is returned, which is a
+     * point-in-time view that misses the score changes since. It is returned only if it holds the games on the board,
+     * so after a game is started or finished the reader keeps reading until it gets a consistent snapshot.
+     */
+    public ScoreBoardSnapshot getSnapshot() {
+        return readSummary().snapshot();
+    }
+
+    /**
+     * Returns a read-only view of the games in progress. Iterating it is safe while other threads change the board.
+     */
+    public GamesView getGames() {
+        return gamesView;
+    }
+
+    private Game findGame(String homeTeam, String awayTeam) {
+        final int homeTeamOrdinal = teams.ordinalOf(homeTeam);
+        final long gameId = UniqueGameIdGenerator.generateUniqueGameId(homeTeamOrdinal, teams.ordinalOf(awayTeam));
+
+        if (gameId == UniqueGameIdGenerator.NO_GAME_ID) {
+            return null;
+        }
+
+        final Game game = gameOfTeam(homeTeamOrdinal);
+        return game != null && game.gameId == gameId ? game : null;
+    }
+
+    private Game gameOfTeam(int ordinal) {
+        final AtomicReferenceArray<Game> currentGamesByTeam = gamesByTeam;
+        return ordinal >= 0 && ordinal < currentGamesByTeam.length() ? currentGamesByTeam.get(ordinal) : null;
+    }
+
+    /**
+     * Grows the team index to hold the ordinal. Called under {@link #structureLock}.
+     */
+    private void ensureTeamCapacity(int ordinal) {
+        final AtomicReferenceArray<Game> currentGamesByTeam = gamesByTeam;
+
+        if (ordinal >= currentGamesByTeam.length()) {
+            final AtomicReferenceArray<Game> larger = new AtomicReferenceArray<>(
+                    Math.max(ordinal + 1, currentGamesByTeam.length() * 2));
+
+            for (int i = 0; i < currentGamesByTeam.length(); i++) {
+                larger.set(i, currentGamesByTeam.get(i));
+            }
+            gamesByTeam = larger;
+        }
+    }
+
+    private void validateGameStartConditions(String homeTeam, String awayTeam) {
+        if (findGame(homeTeam, awayTeam) != null) {
+            throw new IllegalArgumentException(GAME_EXISTS_ERROR);
+        }
+
+        if (!isValidTeamName(homeTeam) || !isValidTeamName(awayTeam)) {
+            throw new IllegalArgumentException(TEAM_NAME_ERROR);
+        }
+
+        validateIfTeamIsBusy(homeTeam);
+        validateIfTeamIsBusy(awayTeam);
+    }
+
+    /**
+     * Names in the registry were validated when they were registered, so a team spelled exactly as registered is
+     * not checked again.
+     */
+    private boolean isValidTeamName(String team) {
+        final int ordinal = teams.ordinalOf(team);
+
+        if (ordinal != TeamRegistry.UNKNOWN_TEAM && teams.nameOf(ordinal).equals(team)) {
+            return true;
+        }
+        return isLettersOnly(team);
+    }
+
+    private void validateIfTeamIsBusy(String team) {
+        if (gameOfTeam(teams.ordinalOf(team)) != null) {
+            throw new IllegalArgumentException(String.format(TEAM_BUSY_ERROR, team));
+        }
+    }
+
+    private Summary readSummary() {
+        for (int attempt = 1; ; attempt++) {
+            final Summary latest = summary.get();
+            if (attempt > SUMMARY_ATTEMPTS && latest.structureChanges() == structureChanges) {
+                return latest;
+            }
+
+            final long version = changesCompleted.sum();
+
+            if (changesBegun.sum() != version) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (latest.snapshot().version() == version) {
+                return latest;
+            }
+
+            final Summary read = rank(latest, version, structureChanges);
+            if (changesBegun.sum() == version) {
+                return summary.accumulateAndGet(read, (published, candidate) ->
+                        candidate.snapshot().version() > published.snapshot().version() ? candidate : published);
+            }
+        }
+    }
+
+    /**
+     * Reads the score of every game and orders the games, starting from the order of the previous summary so the
+     * sort mostly finds runs that are already ordered. The games still on the board from the previous summary are
+     * taken in its order, followed by the games started after it.
+     */
+    private Summary rank(Summary previous, long version, long structureChanges) {
+        final List<RankedGame> rankedGames = new ArrayList<>(games.size());
+        long latestStartSequence = previous.latestStartSequence();
+
+        for (Game game : previous.games()) {
+            if (gameOfTeam(game.homeTeamOrdinal) == game) {
+                rankedGames.add(new RankedGame(game, game.getScore()));
+            }
+        }
+
+        for (Game game : games) {
+            if (game.startSequence > previous.latestStartSequence()) {
+                rankedGames.add(new RankedGame(game, game.getScore()));
+                latestStartSequence = Math.max(latestStartSequence, game.startSequence);
+            }
+        }
+        rankedGames.sort(SUMMARY_ORDER);
+
+        final Game[] rankedOrder = new Game[rankedGames.size()];
+        final ScoreBoardSnapshot.GameScore[] gameScores = new ScoreBoardSnapshot.GameScore[rankedGames.size()];
+        for (int position = 0; position < rankedOrder.length; position++) {
+            final RankedGame ranked = rankedGames.get(position);
+            rankedOrder[position] = ranked.game();
+            gameScores[position] = new ScoreBoardSnapshot.GameScore(ranked.game().getHomeTeam(),
+                    ranked.game().getAwayTeam(), ranked.score().homeScore(), ranked.score().awayScore());
+        }
+        return new Summary(new ScoreBoardSnapshot(version, List.of(gameScores)), List.of(rankedOrder),
+                latestStartSequence, structureChanges);
+    }
+
+    private record RankedGame(Game game, Game.Score score) {
+
+        private int totalScore() {
+            return score.homeScore() + score.awayScore();
+        }
+    }
+
+    /**
+     * Snapshot and game order read at one version of the board.
+     *
+     * @param latestStartSequence Highest start sequence of the games started before the summary was read, or -1.
+     * @param structureChanges    Games started and finished before the summary was read.
+     */
+    private record Summary(ScoreBoardSnapshot snapshot, List<Game> games, long latestStartSequence,
+                           long structureChanges) {
+
+        private static final Summary EMPTY = new Summary(ScoreBoardSnapshot.EMPTY, List.of(), -1L, 0L);
+    }
+
+    /**
+     * View of {@link #games}, whose iterators are weakly consistent, with lookups through {@link #gamesByTeam}.
+     */
+    private final class BoardGamesView extends AbstractCollection<Game> implements GamesView {
+
+        @Override
+        public Iterator<Game> iterator() {
+            return Collections.unmodifiableSet(games).iterator();
+        }
+
+        @Override
+        public int size() {
+            return games.size();
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return object instanceof Game game && gameOfTeam(game.homeTeamOrdinal) == game;
+        }
+
+        @Override
+        public Optional<Game> find(String homeTeam, String awayTeam) {
+            return Optional.ofNullable(findGame(homeTeam, awayTeam));
+        }
+
+        @Override
+        public Optional<Game> findByTeam(String team) {
+            return Optional.ofNullable(gameOfTeam(teams.ordinalOf(team)));
+        }
+
+        @Override
+        public Optional<Game> findById(long gameId) {
+            final Game game = gameOfTeam(UniqueGameIdGenerator.lowerOrdinalOf(gameId));
+            return Optional.ofNullable(game != null && game.gameId == gameId ? game : null);
+        }
+    }
+}
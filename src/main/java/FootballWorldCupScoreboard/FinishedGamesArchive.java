@@ -0,0 +1,408 @@
+package FootballWorldCupScoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Append-only history of the games finished on a scoreboard, returned by {@link ScoreBoard#getArchive()}.
+ * <p>
+ * Finished games are not kept as objects. The archive is a list of chunks of {@value #CHUNK_SIZE} games, each
+ * holding the team ordinals, the packed final score and the start and finish times of its games in primitive
+ * columns, so scans read a few arrays and create objects only for the games they return. Once
+ * {@link #spillTo(Path) spilling} is enabled, every full chunk is written to a memory-mapped file, which leaves only
+ * the chunk being filled on the heap and lets the operating system page older results out.
+ * <p>
+ * Games are archived in the order they finish, with finish times that never go back, so time ranges are found by
+ * binary search. Like the board's other live state, the archive is read by the thread that changes the board.
+ */
+public final class FinishedGamesArchive {
+
+    static final int CHUNK_SIZE = 8192;
+
+    /**
+     * Capacity of the archive's first chunk, which doubles up to {@value #CHUNK_SIZE} as games finish, so a board
+     * that finishes few games keeps a small archive.
+     */
+    private static final int FIRST_CHUNK_CAPACITY = 16;
+
+    private static final String TIME_RANGE_ERROR = "Start of the time range cannot be after its end.";
+
+    private static final String INDEX_ERROR = "No finished game at index %d.";
+
+    private static final Instant EARLIEST_MILLIS = Instant.ofEpochMilli(Long.MIN_VALUE);
+
+    private static final Instant LATEST_MILLIS = Instant.ofEpochMilli(Long.MAX_VALUE);
+
+    /**
+     * A finished game with its teams spelled as registered on the board.
+     */
+    public record FinishedGame(String homeTeam, String awayTeam, int homeScore, int awayScore, Instant startTime,
+                               Instant finishTime) {
+
+        public int totalScore() {
+            return homeScore + awayScore;
+        }
+    }
+
+    private final TeamRegistry teams;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+
+    private HeapChunk current = new HeapChunk(FIRST_CHUNK_CAPACITY);
+
+    private long size;
+
+    private long latestFinishTimeMillis = Long.MIN_VALUE;
+
+    /**
+     * Directory full chunks are spilled to, or {@code null} while they stay on the heap.
+     */
+    private Path spillDirectory;
+
+    FinishedGamesArchive(TeamRegistry teams) {
+        this.teams = teams;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @param index Position of the game in finish order, starting at 0.
+     */
+    public FinishedGame get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format(INDEX_ERROR, index));
+        }
+        return finishedGame(chunkAt((int) (index / CHUNK_SIZE)), (int) (index % CHUNK_SIZE));
+    }
+
+    /**
+     * Returns every finished game the team played, at home or away, in finish order.
+     */
+    public List<FinishedGame> getResultsOf(String team) {
+        final int ordinal = teams.ordinalOf(team);
+        final List<FinishedGame> results = new ArrayList<>();
+
+        if (ordinal == TeamRegistry.UNKNOWN_TEAM) {
+            return results;
+        }
+
+        for (int chunkIndex = 0; chunkIndex <= chunks.size(); chunkIndex++) {
+            final Chunk chunk = chunkAt(chunkIndex);
+
+            for (int row = 0; row < chunk.size(); row++) {
+                if (chunk.homeTeam(row) == ordinal || chunk.awayTeam(row) == ordinal) {
+                    results.add(finishedGame(chunk, row));
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Returns the number of goals scored in the games finished at or after {@code from} and before {@code to}.
+     */
+    public long getTotalGoals(Instant from, Instant to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException(TIME_RANGE_ERROR);
+        }
+
+        final long end = firstFinishedAtOrAfter(epochMillisOf(to));
+        long index = firstFinishedAtOrAfter(epochMillisOf(from));
+        long goals = 0L;
+
+        while (index < end) {
+            final Chunk chunk = chunkAt((int) (index / CHUNK_SIZE));
+            final int firstRow = (int) (index % CHUNK_SIZE);
+            final int lastRow = (int) Math.min(chunk.size(), firstRow + (end - index));
+
+            for (int row = firstRow; row < lastRow; row++) {
+                final int score = chunk.score(row);
+                goals += (score >>> 16) + (score & Game.MAX_SCORE);
+            }
+            index += lastRow - firstRow;
+        }
+        return goals;
+    }
+
+    /**
+     * Writes every full chunk to a memory-mapped file in the directory and keeps doing so for the chunks filled from
+     * now on. The files only back the archive's memory: they are unlinked as soon as they are mapped and are not
+     * read back after a restart.
+     */
+    public void spillTo(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        spillDirectory = directory;
+        for (int chunkIndex = 0; chunkIndex < chunks.size(); chunkIndex++) {
+            if (chunks.get(chunkIndex) instanceof HeapChunk heapChunk) {
+                chunks.set(chunkIndex, spill(heapChunk));
+            }
+        }
+    }
+
+    /**
+     * Archives the game with its current score.
+     */
+    void add(Game game, long finishTimeMillis) {
+        final Game.Score score = game.getScore();
+        restore(game.homeTeamOrdinal, game.awayTeamOrdinal, score.homeScore() << 16 | score.awayScore(),
+                game.startTimeMillis, finishTimeMillis);
+    }
+
+    /**
+     * Archives a game restored from a checkpoint, with the columns it was archived with.
+     */
+    void restore(int homeTeam, int awayTeam, int score, long startTimeMillis, long finishTimeMillis) {
+        latestFinishTimeMillis = Math.max(latestFinishTimeMillis, finishTimeMillis);
+        current.add(homeTeam, awayTeam, score, startTimeMillis, latestFinishTimeMillis);
+        size++;
+
+        if (current.size() == CHUNK_SIZE) {
+            chunks.add(spillDirectory != null ? spill(current) : current);
+            current = new HeapChunk(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Copies the columns of every archived game, in finish order, for a checkpoint.
+     *
+     * @param games Per game: home ordinal, away ordinal and {@code homeScore << 16 | awayScore}.
+     * @param times Per game: start and finish time in epoch milliseconds.
+     */
+    void copyTo(int[] games, long[] times) {
+        int game = 0;
+
+        for (int chunkIndex = 0; chunkIndex <= chunks.size(); chunkIndex++) {
+            final Chunk chunk = chunkAt(chunkIndex);
+
+            for (int row = 0; row < chunk.size(); row++, game++) {
+                games[3 * game] = chunk.homeTeam(row);
+                games[3 * game + 1] = chunk.awayTeam(row);
+                games[3 * game + 2] = chunk.score(row);
+                times[2 * game] = chunk.startTime(row);
+                times[2 * game + 1] = chunk.finishTime(row);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the first game finished at or after the time, or {@link #size()} if there is none.
+     */
+    private long firstFinishedAtOrAfter(long timeMillis) {
+        long low = 0L;
+        long high = size;
+
+        while (low < high) {
+            final long middle = (low + high) >>> 1;
+
+            if (chunkAt((int) (middle / CHUNK_SIZE)).finishTime((int) (middle % CHUNK_SIZE)) < timeMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Converts the instant to epoch milliseconds, saturating instants outside the range of a {@code long}.
+     */
+    private static long epochMillisOf(Instant instant) {
+        if (instant.isAfter(LATEST_MILLIS)) {
+            return Long.MAX_VALUE;
+        }
+        return instant.isBefore(EARLIEST_MILLIS) ? Long.MIN_VALUE : instant.toEpochMilli();
+    }
+
+    private Chunk chunkAt(int chunkIndex) {
+        return chunkIndex < chunks.size() ? chunks.get(chunkIndex) : current;
+    }
+
+    private FinishedGame finishedGame(Chunk chunk, int row) {
+        final int score = chunk.score(row);
+        return new FinishedGame(teams.nameOf(chunk.homeTeam(row)), teams.nameOf(chunk.awayTeam(row)), score >>> 16,
+                score & Game.MAX_SCORE, Instant.ofEpochMilli(chunk.startTime(row)),
+                Instant.ofEpochMilli(chunk.finishTime(row)));
+    }
+
+    private MappedChunk spill(HeapChunk chunk) {
+        try (FileChannel channel = FileChannel.open(Files.createTempFile(spillDirectory, "archive-", ".chunk"),
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, MappedChunk.BYTES);
+
+            buffer.asIntBuffer().put(chunk.homeTeams).put(chunk.awayTeams).put(chunk.scores);
+            buffer.position(MappedChunk.START_TIMES);
+            buffer.asLongBuffer().put(chunk.startTimes).put(chunk.finishTimes);
+            return new MappedChunk(buffer.clear());
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Columns of up to {@value #CHUNK_SIZE} finished games.
+     */
+    private interface Chunk {
+
+        int size();
+
+        int homeTeam(int row);
+
+        int awayTeam(int row);
+
+        /**
+         * Home score in the upper 16 bits, away score in the lower 16 bits.
+         */
+        int score(int row);
+
+        long startTime(int row);
+
+        long finishTime(int row);
+    }
+
+    /**
+     * Chunk being filled, whose columns grow until they hold {@value #CHUNK_SIZE} games.
+     */
+    private static final class HeapChunk implements Chunk {
+
+        private int[] homeTeams;
+
+        private int[] awayTeams;
+
+        private int[] scores;
+
+        private long[] startTimes;
+
+        private long[] finishTimes;
+
+        private int size;
+
+        private HeapChunk(int capacity) {
+            homeTeams = new int[capacity];
+            awayTeams = new int[capacity];
+            scores = new int[capacity];
+            startTimes = new long[capacity];
+            finishTimes = new long[capacity];
+        }
+
+        private void add(int homeTeam, int awayTeam, int score, long startTimeMillis, long finishTimeMillis) {
+            if (size == homeTeams.length) {
+                grow();
+            }
+
+            homeTeams[size] = homeTeam;
+            awayTeams[size] = awayTeam;
+            scores[size] = score;
+            startTimes[size] = startTimeMillis;
+            finishTimes[size] = finishTimeMillis;
+            size++;
+        }
+
+        private void grow() {
+            final int capacity = Math.min(2 * homeTeams.length, CHUNK_SIZE);
+
+            homeTeams = Arrays.copyOf(homeTeams, capacity);
+            awayTeams = Arrays.copyOf(awayTeams, capacity);
+            scores = Arrays.copyOf(scores, capacity);
+            startTimes = Arrays.copyOf(startTimes, capacity);
+            finishTimes = Arrays.copyOf(finishTimes, capacity);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public int homeTeam(int row) {
+            return homeTeams[row];
+        }
+
+        @Override
+        public int awayTeam(int row) {
+            return awayTeams[row];
+        }
+
+        @Override
+        public int score(int row) {
+            return scores[row];
+        }
+
+        @Override
+        public long startTime(int row) {
+            return startTimes[row];
+        }
+
+        @Override
+        public long finishTime(int row) {
+            return finishTimes[row];
+        }
+    }
+
+    /**
+     * Full chunk in a mapped file, with the columns one after another in the order of {@link HeapChunk}.
+     */
+    private static final class MappedChunk implements Chunk {
+
+        private static final int AWAY_TEAMS = CHUNK_SIZE * Integer.BYTES;
+
+        private static final int SCORES = 2 * CHUNK_SIZE * Integer.BYTES;
+
+        private static final int START_TIMES = 3 * CHUNK_SIZE * Integer.BYTES;
+
+        private static final int FINISH_TIMES = START_TIMES + CHUNK_SIZE * Long.BYTES;
+
+        private static final int BYTES = FINISH_TIMES + CHUNK_SIZE * Long.BYTES;
+
+        private final ByteBuffer buffer;
+
+        private MappedChunk(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int size() {
+            return CHUNK_SIZE;
+        }
+
+        @Override
+        public int homeTeam(int row) {
+            return buffer.getInt(row * Integer.BYTES);
+        }
+
+        @Override
+        public int awayTeam(int row) {
+            return buffer.getInt(AWAY_TEAMS + row * Integer.BYTES);
+        }
+
+        @Override
+        public int score(int row) {
+            return buffer.getInt(SCORES + row * Integer.BYTES);
+        }
+
+        @Override
+        public long startTime(int row) {
+            return buffer.getLong(START_TIMES + row * Long.BYTES);
+        }
+
+        @Override
+        public long finishTime(int row) {
+            return buffer.getLong(FINISH_TIMES + row * Long.BYTES);
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package FootballWorldCupScoreboard;
+
+/**
+ * A game scheduled to be played, started in bulk with {@link ScoreBoard#startGames}.
+ */
+public record Fixture(String homeTeam, String awayTeam) {
+}
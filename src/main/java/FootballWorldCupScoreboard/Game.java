@@ -1,14 +1,78 @@
 package FootballWorldCupScoreboard;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+
+/**
+ * Game in progress on a board, with its teams and score.
+ * <p>
+ * Games handed out by a board are read-only to its callers: only the board that owns a game changes its score, so
+ * that the board's indexes, journal, events and standings follow every change.
+ */
 public class Game {
 
+    private static final VarHandle SCORE_STATE;
+
+    static {
+        try {
+            SCORE_STATE = MethodHandles.lookup().findVarHandle(Game.class, "scoreState", long.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    static final int MAX_SCORE = 0xFFFF;
+
+    static final int MAX_TEAM_NAME_LENGTH = 35;
+
     private final String homeTeam;
 
     private final String awayTeam;
 
-    private int homeScore;
+    /**
+     * Both scores and the version of the score in one word, so they always change together: the version in the
+     * upper 32 bits, the home score in the next 16 bits and the away score in the lowest 16 bits.
+     */
+    private volatile long scoreState;
+
+    /**
+     * Highest sequence number of the updates applied with one, guarded by the game.
+     */
+    private long latestSequence = ScoreEvent.ScoreUpdated.NO_SEQUENCE;
+
+    /**
+     * Registry ordinals of the teams on the game's scoreboard, or {@link TeamRegistry#UNKNOWN_TEAM} for a game
+     * created on its own.
+     */
+    final int homeTeamOrdinal;
+
+    final int awayTeamOrdinal;
 
-    private int awayScore;
+    /**
+     * Identifier of the game on its scoreboard, see {@link UniqueGameIdGenerator}.
+     */
+    final long gameId;
+
+    /**
+     * Position of the game in the start order of its scoreboard, used to rank the most recently started game first.
+     */
+    final long startSequence;
+
+    /**
+     * Time the game was started, in milliseconds since the epoch.
+     */
+    final long startTimeMillis;
+
+    /**
+     * Total score under which the game is currently stored in the scoreboard's ranked index.
+     */
+    int indexedTotalScore;
+
+    /**
+     * Record of the game in the scoreboard's latest snapshot, reused by the next snapshot while the score is the same.
+     */
+    ScoreBoardSnapshot.GameScore publishedScore;
 
     private static final String HOME_TEAM_ERROR_MESSAGE = "Home team cannot be null or empty.";
 
@@ -18,29 +82,160 @@ public class Game {
 
     private static final String TOO_LONG_NAME_ERROR_MESSAGE = "Team name cannot be longer than 35 characters.";
 
-    private static final String NEGATIVE_SCORE_ERROR_MESSAGE = "Scores cannot be negative.";
+    static final String NEGATIVE_SCORE_ERROR_MESSAGE = "Scores cannot be negative.";
+
+    static final String TOO_HIGH_SCORE_ERROR_MESSAGE = "Scores cannot be higher than " + MAX_SCORE + ".";
 
     public Game(String homeTeam, String awayTeam) {
+        this(homeTeam, awayTeam, TeamRegistry.UNKNOWN_TEAM, TeamRegistry.UNKNOWN_TEAM, 0L);
+    }
+
+    Game(String homeTeam, String awayTeam, int homeTeamOrdinal, int awayTeamOrdinal, long startSequence) {
+        this(homeTeam, awayTeam, homeTeamOrdinal, awayTeamOrdinal, startSequence, System.currentTimeMillis());
+    }
+
+    Game(String homeTeam, String awayTeam, int homeTeamOrdinal, int awayTeamOrdinal, long startSequence,
+         long startTimeMillis) {
         validateTeams(homeTeam, awayTeam);
 
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
-        this.homeScore = 0;
-        this.awayScore = 0;
+        this.homeTeamOrdinal = homeTeamOrdinal;
+        this.awayTeamOrdinal = awayTeamOrdinal;
+        this.gameId = UniqueGameIdGenerator.generateUniqueGameId(homeTeamOrdinal, awayTeamOrdinal);
+        this.startSequence = startSequence;
+        this.startTimeMillis = startTimeMillis;
+    }
+
+    private Game(int indexedTotalScore, long startSequence, long startTimeMillis) {
+        this.homeTeam = null;
+        this.awayTeam = null;
+        this.homeTeamOrdinal = TeamRegistry.UNKNOWN_TEAM;
+        this.awayTeamOrdinal = TeamRegistry.UNKNOWN_TEAM;
+        this.gameId = UniqueGameIdGenerator.NO_GAME_ID;
+        this.startSequence = startSequence;
+        this.startTimeMillis = startTimeMillis;
+        this.indexedTotalScore = indexedTotalScore;
+    }
+
+    /**
+     * Returns a game without teams that is never on a board, placed at the given position of the board's sorted
+     * indexes, to look up a range of those indexes.
+     */
+    static Game probe(int indexedTotalScore, long startSequence, long startTimeMillis) {
+        return new Game(indexedTotalScore, startSequence, startTimeMillis);
+    }
+
+    /**
+     * Sets both scores at once and moves the score to the next version. Safe to call from many threads; readers
+     * never see one score updated without the other.
+     */
+    void updateScore(int homeScore, int awayScore) {
+        validateScore(homeScore, awayScore);
+
+        long current;
+        do {
+            current = scoreState;
+        } while (!SCORE_STATE.compareAndSet(this, current, pack(versionOf(current) + 1, homeScore, awayScore)));
+    }
+
+    /**
+     * Sets both scores only if the game currently has the expected score, for example to drop a feed message that
+     * was sent for an older score.
+     *
+     * @return {@code true} if the score was updated, {@code false} if the current score differs from the expected one.
+     */
+    boolean compareAndSetScore(int expectedHomeScore, int expectedAwayScore, int homeScore, int awayScore) {
+        validateScore(homeScore, awayScore);
+
+        while (true) {
+            final long current = scoreState;
+
+            if (homeScoreOf(current) != expectedHomeScore || awayScoreOf(current) != expectedAwayScore) {
+                return false;
+            }
+
+            if (SCORE_STATE.compareAndSet(this, current, pack(versionOf(current) + 1, homeScore, awayScore))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Sets both scores only if the update is newer than every update applied this way before, so that a feed message
+     * delivered twice or after a later one cannot roll the score back. The sequence number is any value that grows
+     * with the game's score, such as the provider's message counter or timestamp.
+     * <p>
+     * Updates from {@link #updateScore} and {@link #compareAndSetScore} do not take part in the ordering.
+     *
+     * @return {@code true} if the score was updated, {@code false} if the sequence number is not higher than the
+     * latest one applied.
+     */
+    synchronized boolean updateScoreIfNewer(long sequence, int homeScore, int awayScore) {
+        validateScore(homeScore, awayScore);
+
+        if (sequence <= latestSequence) {
+            return false;
+        }
+
+        latestSequence = sequence;
+        updateScore(homeScore, awayScore);
+        return true;
+    }
+
+    /**
+     * Returns whether {@link #updateScoreIfNewer} would apply an update with the sequence number, so that a board can
+     * journal the update before applying it.
+     */
+    synchronized boolean isNewer(long sequence) {
+        return sequence > latestSequence;
     }
 
-    public void updateScore(int homeScore, int awayScore) {
+    /**
+     * Sets both scores and records the sequence number as the latest one applied, if it is higher. Used for updates
+     * already checked with {@link #isNewer} and for updates replayed from a journal.
+     */
+    synchronized void updateScoreWithSequence(long sequence, int homeScore, int awayScore) {
         validateScore(homeScore, awayScore);
-        this.homeScore = homeScore;
-        this.awayScore = awayScore;
+
+        latestSequence = Math.max(latestSequence, sequence);
+        updateScore(homeScore, awayScore);
+    }
+
+    synchronized long getLatestSequence() {
+        return latestSequence;
+    }
+
+    /**
+     * Returns both scores and their version as read at one instant.
+     */
+    public Score getScore() {
+        final long current = scoreState;
+        return new Score(homeScoreOf(current), awayScoreOf(current), versionOf(current));
     }
 
     public int getHomeScore() {
-        return homeScore;
+        return homeScoreOf(scoreState);
     }
 
     public int getAwayScore() {
-        return awayScore;
+        return awayScoreOf(scoreState);
+    }
+
+    public int getTotalScore() {
+        final long current = scoreState;
+        return homeScoreOf(current) + awayScoreOf(current);
+    }
+
+    /**
+     * Returns how many times the score has been changed since the game started.
+     */
+    public int getVersion() {
+        return versionOf(scoreState);
+    }
+
+    public Instant getStartTime() {
+        return Instant.ofEpochMilli(startTimeMillis);
     }
 
     public String getHomeTeam() {
@@ -51,34 +246,92 @@ public class Game {
         return awayTeam;
     }
 
-    private static void validateScore(int homeScore, int awayScore) {
+    static boolean isValidScore(int homeScore, int awayScore) {
+        return homeScore >= 0 && awayScore >= 0 && homeScore <= MAX_SCORE && awayScore <= MAX_SCORE;
+    }
+
+    static void validateScore(int homeScore, int awayScore) {
         if (homeScore < 0 || awayScore < 0) {
-            throw new IllegalArgumentException(NEGATIVE_SCORE_ERROR_MESSAGE);
+            throw new RejectedChangeException(ScoreBoardStatus.INVALID_SCORE, NEGATIVE_SCORE_ERROR_MESSAGE);
         }
+
+        if (homeScore > MAX_SCORE || awayScore > MAX_SCORE) {
+            throw new RejectedChangeException(ScoreBoardStatus.INVALID_SCORE, TOO_HIGH_SCORE_ERROR_MESSAGE);
+        }
+    }
+
+    private static long pack(int version, int homeScore, int awayScore) {
+        return ((long) version << 32) | ((long) homeScore << 16) | awayScore;
+    }
+
+    private static int versionOf(long scoreState) {
+        return (int) (scoreState >>> 32);
+    }
+
+    private static int homeScoreOf(long scoreState) {
+        return (int) (scoreState >>> 16) & MAX_SCORE;
+    }
+
+    private static int awayScoreOf(long scoreState) {
+        return (int) scoreState & MAX_SCORE;
     }
 
-    private void validateTeams(String homeTeam, String awayTeam) {
+    /**
+     * Consistent snapshot of a game's score.
+     *
+     * @param version Number of score changes the snapshot reflects.
+     */
+    public record Score(int homeScore, int awayScore, int version) {
+    }
+
+    /**
+     * Returns whether {@link #validateTeams} accepts the teams, without throwing.
+     */
+    static boolean hasValidTeams(String homeTeam, String awayTeam) {
+        return homeTeam != null && awayTeam != null && !homeTeam.equals(awayTeam)
+                && trimmedLength(homeTeam) > 0 && trimmedLength(homeTeam) <= MAX_TEAM_NAME_LENGTH
+                && trimmedLength(awayTeam) > 0 && trimmedLength(awayTeam) <= MAX_TEAM_NAME_LENGTH;
+    }
+
+    static void validateTeams(String homeTeam, String awayTeam) {
         validateIfTeamSetIsCorrect(homeTeam, awayTeam);
         validateTeamLenght(homeTeam, awayTeam);
     }
 
     private static void validateTeamLenght(String homeTeam, String awayTeam) {
-        if (homeTeam.trim().length() > 35 || awayTeam.trim().length() > 35) {
-            throw new IllegalArgumentException(TOO_LONG_NAME_ERROR_MESSAGE);
+        if (trimmedLength(homeTeam) > MAX_TEAM_NAME_LENGTH || trimmedLength(awayTeam) > MAX_TEAM_NAME_LENGTH) {
+            throw new RejectedChangeException(ScoreBoardStatus.INVALID_TEAM_NAME, TOO_LONG_NAME_ERROR_MESSAGE);
         }
     }
 
-    private void validateIfTeamSetIsCorrect(String homeTeam, String awayTeam) {
-        if (homeTeam == null || homeTeam.trim().isEmpty()) {
-            throw new IllegalArgumentException(HOME_TEAM_ERROR_MESSAGE);
+    private static void validateIfTeamSetIsCorrect(String homeTeam, String awayTeam) {
+        if (homeTeam == null || trimmedLength(homeTeam) == 0) {
+            throw new RejectedChangeException(ScoreBoardStatus.INVALID_TEAM_NAME, HOME_TEAM_ERROR_MESSAGE);
         }
 
-        if (awayTeam == null || awayTeam.trim().isEmpty()) {
-            throw new IllegalArgumentException(AWAY_TEAM_ERROR_MESSAGE);
+        if (awayTeam == null || trimmedLength(awayTeam) == 0) {
+            throw new RejectedChangeException(ScoreBoardStatus.INVALID_TEAM_NAME, AWAY_TEAM_ERROR_MESSAGE);
         }
 
         if (homeTeam.equals(awayTeam)) {
-            throw new IllegalArgumentException(SAME_TEAMS_ERROR_MESSAGE);
+            throw new RejectedChangeException(ScoreBoardStatus.INVALID_TEAM_NAME, SAME_TEAMS_ERROR_MESSAGE);
+        }
+    }
+
+    /**
+     * Returns the length the name would have after {@link String#trim()}, without creating the trimmed string. Only
+     * leading and trailing whitespace is visited, so a name without any costs two character reads.
+     */
+    private static int trimmedLength(String team) {
+        int start = 0;
+        int end = team.length();
+
+        while (start < end && team.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && team.charAt(end - 1) <= ' ') {
+            end--;
         }
+        return end - start;
     }
 }
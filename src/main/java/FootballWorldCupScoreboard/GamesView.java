@@ -0,0 +1,28 @@
+package FootballWorldCupScoreboard;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Read-only view of the games in progress on a board, returned by {@link ScoreBoard#getGames()} and
+ * {@link ConcurrentScoreBoard#getGames()}. The view is not a copy: it follows the board as it changes, and lookups
+ * go through the board's team index instead of scanning the games. Every method that would change the collection
+ * throws {@link UnsupportedOperationException}.
+ */
+public interface GamesView extends Collection<Game> {
+
+    /**
+     * Returns the game between the two teams, given in either order.
+     */
+    Optional<Game> find(String homeTeam, String awayTeam);
+
+    /**
+     * Returns the game the team is playing, at home or away.
+     */
+    Optional<Game> findByTeam(String team);
+
+    /**
+     * Returns the game with the given ID, see {@link ScoreBoard#getGameId}.
+     */
+    Optional<Game> findById(long gameId);
+}
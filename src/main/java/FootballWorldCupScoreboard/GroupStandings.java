@@ -0,0 +1,311 @@
+package FootballWorldCupScoreboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live tables of the groups played on a scoreboard, returned by {@link ScoreBoard#getStandings()} and filled by
+ * {@link ScoreBoard#addGroup}.
+ * <p>
+ * A game between two teams of the same group counts in the group's table from the moment it starts, with the score
+ * it has at the time, so the table shows the group as it stands. Every score change takes the previous score of the
+ * game out of the two teams' rows and puts the new one in, then puts the two rows back in their place in the group's
+ * order: points, goal difference, goals scored, then team name. The table of every changed group is published as an
+ * immutable list, so any thread reads it without waiting or rebuilding anything.
+ */
+public final class GroupStandings {
+
+    private static final String GROUP_EXISTS_ERROR = "Group %s is already registered.";
+
+    private static final String GROUP_NOT_FOUND_ERROR = "Group %s is not registered.";
+
+    private static final String GROUP_SIZE_ERROR = "A group needs at least two teams.";
+
+    private static final String TEAM_IN_GROUP_ERROR = "%s team is already in group %s.";
+
+    private static final int POINTS_FOR_WIN = 3;
+
+    private static final int POINTS_FOR_DRAW = 1;
+
+    private static final Comparator<Row> TABLE_ORDER = Comparator.comparingInt((Row row) -> -row.points)
+            .thenComparingInt(row -> row.goalsAgainst - row.goalsFor)
+            .thenComparingInt(row -> -row.goalsFor)
+            .thenComparing(row -> row.team, String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * Row of a group's table.
+     */
+    public record Standing(String team, int played, int won, int drawn, int lost, int goalsFor, int goalsAgainst,
+                           int points) {
+
+        public int goalDifference() {
+            return goalsFor - goalsAgainst;
+        }
+    }
+
+    private final TeamRegistry teams;
+
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+
+    /**
+     * Row of every team in a group, indexed by team ordinal.
+     */
+    private Row[] rowsByTeam = new Row[16];
+
+    GroupStandings(TeamRegistry teams) {
+        this.teams = teams;
+    }
+
+    /**
+     * Returns the table of the group, best placed team first.
+     *
+     * @throws IllegalArgumentException if the group is not registered.
+     */
+    public List<Standing> getTable(String group) {
+        final Group registered = groups.get(group);
+
+        if (registered == null) {
+            throw new IllegalArgumentException(String.format(GROUP_NOT_FOUND_ERROR, group));
+        }
+        return registered.table;
+    }
+
+    /**
+     * Registers the group and counts the games between its teams that are already finished or in progress.
+     *
+     * @throws IllegalArgumentException if the group is registered, has fewer than two teams, or a team name is
+     *                                  invalid or already belongs to a group.
+     */
+    void addGroup(String group, List<String> groupTeams, Collection<Game> liveGames, FinishedGamesArchive archive) {
+        validateGroup(group, groupTeams);
+
+        final Group added = new Group(group, groupTeams.size());
+        for (String team : groupTeams) {
+            final int ordinal = teams.register(team);
+
+            ensureTeamCapacity(ordinal);
+            rowsByTeam[ordinal] = added.add(new Row(added, teams.nameOf(ordinal)));
+        }
+
+        for (String team : groupTeams) {
+            for (FinishedGamesArchive.FinishedGame result : archive.getResultsOf(team)) {
+                final Row home = rowOf(teams.ordinalOf(result.homeTeam()));
+                final Row away = rowOf(teams.ordinalOf(result.awayTeam()));
+
+                if (home == rowOf(teams.ordinalOf(team)) && away != null && away.group == added) {
+                    home.count(result.homeScore(), result.awayScore(), 1);
+                    away.count(result.awayScore(), result.homeScore(), 1);
+                }
+            }
+        }
+
+        for (Game game : liveGames) {
+            final Row home = rowOf(game.homeTeamOrdinal);
+            if (home != null && home.group == added) {
+                gameStarted(game);
+            }
+        }
+
+        added.sort();
+        groups.put(group, added);
+    }
+
+    /**
+     * Counts the game with its current score if both teams play in the same group.
+     */
+    void gameStarted(Game game) {
+        final Row home = rowOf(game.homeTeamOrdinal);
+        final Row away = rowOf(game.awayTeamOrdinal);
+
+        if (home != null && away != null && home.group == away.group) {
+            home.liveGoalsFor = 0;
+            home.liveGoalsAgainst = 0;
+            away.liveGoalsFor = 0;
+            away.liveGoalsAgainst = 0;
+            home.count(0, 0, 1);
+            away.count(0, 0, 1);
+            scoreChanged(game);
+        }
+    }
+
+    /**
+     * Replaces the score counted for the game with its current score, if the game is counted in a group.
+     */
+    void scoreChanged(Game game) {
+        final Row home = rowOf(game.homeTeamOrdinal);
+        final Row away = rowOf(game.awayTeamOrdinal);
+
+        if (home == null || away == null || home.group != away.group) {
+            return;
+        }
+
+        final Game.Score score = game.getScore();
+        home.count(home.liveGoalsFor, home.liveGoalsAgainst, -1);
+        away.count(away.liveGoalsFor, away.liveGoalsAgainst, -1);
+        home.liveGoalsFor = score.homeScore();
+        home.liveGoalsAgainst = score.awayScore();
+        away.liveGoalsFor = score.awayScore();
+        away.liveGoalsAgainst = score.homeScore();
+        home.count(home.liveGoalsFor, home.liveGoalsAgainst, 1);
+        away.count(away.liveGoalsFor, away.liveGoalsAgainst, 1);
+
+        home.group.reorder();
+        home.group.publish();
+    }
+
+    private void validateGroup(String group, List<String> groupTeams) {
+        if (groups.containsKey(group)) {
+            throw new IllegalArgumentException(String.format(GROUP_EXISTS_ERROR, group));
+        }
+
+        if (groupTeams.size() < 2) {
+            throw new IllegalArgumentException(GROUP_SIZE_ERROR);
+        }
+
+        for (int position = 0; position < groupTeams.size(); position++) {
+            final String team = groupTeams.get(position);
+
+            if (!ScoreBoard.isLettersOnly(team)) {
+                throw new IllegalArgumentException(ScoreBoard.TEAM_NAME_ERROR);
+            }
+
+            final int ordinal = teams.ordinalOf(team);
+            if (rowOf(ordinal) != null || containsTeam(groupTeams, position, team)) {
+                throw new IllegalArgumentException(String.format(TEAM_IN_GROUP_ERROR, team,
+                        rowOf(ordinal) != null ? rowOf(ordinal).group.name : group));
+            }
+        }
+    }
+
+    private static boolean containsTeam(List<String> groupTeams, int end, String team) {
+        for (int position = 0; position < end; position++) {
+            if (groupTeams.get(position).equalsIgnoreCase(team)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Row rowOf(int ordinal) {
+        return ordinal >= 0 && ordinal < rowsByTeam.length ? rowsByTeam[ordinal] : null;
+    }
+
+    private void ensureTeamCapacity(int ordinal) {
+        if (ordinal >= rowsByTeam.length) {
+            rowsByTeam = Arrays.copyOf(rowsByTeam, Math.max(ordinal + 1, rowsByTeam.length * 2));
+        }
+    }
+
+    /**
+     * Rows of one group, kept in table order, and the table last published from them.
+     */
+    private static final class Group {
+
+        private final String name;
+
+        private final Row[] rows;
+
+        private int size;
+
+        private volatile List<Standing> table;
+
+        private Group(String name, int teamCount) {
+            this.name = name;
+            this.rows = new Row[teamCount];
+        }
+
+        private Row add(Row row) {
+            rows[size++] = row;
+            return row;
+        }
+
+        private void sort() {
+            Arrays.sort(rows, TABLE_ORDER);
+            publish();
+        }
+
+        /**
+         * Puts the rows back in order by insertion sort after a game changed two of them, which only moves those two
+         * rows past the ones they overtook or fell behind and is a single comparison per row otherwise.
+         */
+        private void reorder() {
+            for (int position = 1; position < rows.length; position++) {
+                final Row row = rows[position];
+                int place = position;
+
+                while (place > 0 && TABLE_ORDER.compare(row, rows[place - 1]) < 0) {
+                    rows[place] = rows[place - 1];
+                    place--;
+                }
+                rows[place] = row;
+            }
+        }
+
+        private void publish() {
+            final List<Standing> standings = new ArrayList<>(rows.length);
+
+            for (Row row : rows) {
+                standings.add(new Standing(row.team, row.played, row.won, row.drawn, row.lost, row.goalsFor,
+                        row.goalsAgainst, row.points));
+            }
+            table = List.copyOf(standings);
+        }
+    }
+
+    /**
+     * Running totals of a team, with the score of its game in progress as currently counted in them.
+     */
+    private static final class Row {
+
+        private final Group group;
+
+        private final String team;
+
+        private int played;
+
+        private int won;
+
+        private int drawn;
+
+        private int lost;
+
+        private int goalsFor;
+
+        private int goalsAgainst;
+
+        private int points;
+
+        private int liveGoalsFor;
+
+        private int liveGoalsAgainst;
+
+        private Row(Group group, String team) {
+            this.group = group;
+            this.team = team;
+        }
+
+        /**
+         * Adds the result to the totals, or takes it out of them when {@code sign} is -1.
+         */
+        private void count(int scored, int conceded, int sign) {
+            played += sign;
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+
+            if (scored > conceded) {
+                won += sign;
+                points += sign * POINTS_FOR_WIN;
+            } else if (scored == conceded) {
+                drawn += sign;
+                points += sign * POINTS_FOR_DRAW;
+            } else {
+                lost += sign;
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package FootballWorldCupScoreboard;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies in nanoseconds with a fixed relative precision, in the style of HdrHistogram.
+ * <p>
+ * Values below {@code 2 * SUB_BUCKETS} have a bucket each. Every higher power of two is split into
+ * {@value #SUB_BUCKETS} buckets of equal width, so a reported value is at most about 6% above the recorded one,
+ * whatever its magnitude. Recording increments one counter and never allocates; it is safe from any number of
+ * threads, and the histogram can be read while it is being recorded into.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final String PERCENTILE_ERROR = "Percentile must be between 0 and 100.";
+
+    private final AtomicLongArray counts = new AtomicLongArray(bucketOf(Long.MAX_VALUE) + 1);
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency; negative values, which a clock adjustment can produce, are recorded as zero.
+     */
+    public void record(long nanos) {
+        final long value = Math.max(0L, nanos);
+
+        counts.incrementAndGet(bucketOf(value));
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    public long count() {
+        long count = 0L;
+
+        for (int bucket = 0; bucket < counts.length(); bucket++) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns the latency that the given percentage of recorded latencies do not exceed, rounded up to the top of its
+     * bucket and capped at {@link #max()}, or {@code 0} if nothing was recorded.
+     *
+     * @param percentile Percentage between 0 and 100, for example {@code 99.9}.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException(PERCENTILE_ERROR);
+        }
+
+        final long[] snapshot = new long[counts.length()];
+        long count = 0L;
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            count += snapshot[bucket];
+        }
+
+        if (count == 0L) {
+            return 0L;
+        }
+
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+        for (int bucket = 0; bucket < snapshot.length; bucket++) {
+            seen += snapshot[bucket];
+            if (seen >= rank) {
+                return Math.min(highestValueOf(bucket), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Shift {@code s} of a value is how many low bits its bucket ignores; the bucket is then {@code s * SUB_BUCKETS}
+     * plus the value's remaining top bits, which lie between {@code SUB_BUCKETS} and {@code 2 * SUB_BUCKETS} once
+     * the value needs a shift at all.
+     */
+    static int bucketOf(long value) {
+        final int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestValueOf(int bucket) {
+        final int shift = Math.max(0, (bucket >> SUB_BUCKET_BITS) - 1);
+        final long lowestValue = (long) (bucket - (shift << SUB_BUCKET_BITS)) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,375 @@
+package FootballWorldCupScoreboard;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static FootballWorldCupScoreboard.ScoreBoard.*;
+
+/**
+ * Reduced variant of {@link ScoreBoard} for boards with millions of games in progress, such as simulations that
+ * load-test the systems fed by the board.
+ * <p>
+ * Games are not objects: each game is a row of parallel primitive arrays holding the ordinals of its teams and its
+ * packed score. Rows are kept in start order, so the position of a row is the tie-break of the summary and no start
+ * sequence has to be stored. A finished game leaves an empty row behind, and the rows are compacted once more than
+ * half of them are empty. Games are looked up through an array indexed by team ordinal, so the board holds a few
+ * arrays and the team dictionary instead of several objects per game, and the garbage collector has almost nothing
+ * to trace.
+ * <p>
+ * Only the core operations of {@link ScoreBoard} are offered: starting, updating and finishing games one at a time,
+ * with the same validation and error messages, and reading the summary. There are no {@code try} variants, batches,
+ * game views, events, journal or metrics, and no {@link Game} objects: the summary is read as
+ * {@link ScoreBoardSnapshot.GameScore} records, sorted on read and at most once per change of the board. Teams are
+ * reported with the spelling they were first registered with, where {@link ScoreBoard} reports the spelling each
+ * game was started with.
+ */
+public class PrimitiveScoreBoard {
+
+    private static final int EMPTY_ROW = -1;
+
+    private static final int NO_ROW = -1;
+
+    private final TeamRegistry teams = new TeamRegistry();
+
+    /**
+     * Row of the game each team is currently playing, indexed by team ordinal, or {@link #NO_ROW}.
+     */
+    private int[] rowByTeam = new int[16];
+
+    private int[] homeTeams = new int[16];
+
+    private int[] awayTeams = new int[16];
+
+    /**
+     * {@code homeScore << 16 | awayScore} of the game in each row.
+     */
+    private int[] scores = new int[16];
+
+    /**
+     * Number of rows in use, including the empty rows of finished games.
+     */
+    private int rows;
+
+    private int activeGames;
+
+    /**
+     * Number of changes so far, used as the version of the snapshots.
+     */
+    private long version;
+
+    private ScoreBoardSnapshot snapshot = ScoreBoardSnapshot.EMPTY;
+
+    public PrimitiveScoreBoard() {
+        Arrays.fill(rowByTeam, NO_ROW);
+    }
+
+    public synchronized void startGame(String homeTeam, String awayTeam) {
+        final int homeTeamOrdinal = teams.ordinalOf(homeTeam);
+        final int awayTeamOrdinal = teams.ordinalOf(awayTeam);
+
+        if (findRow(homeTeamOrdinal, awayTeamOrdinal) != NO_ROW) {
+            throw new IllegalArgumentException(GAME_EXISTS_ERROR);
+        }
+
+        if (!isValidTeamName(homeTeam, homeTeamOrdinal) || !isValidTeamName(awayTeam, awayTeamOrdinal)) {
+            throw new IllegalArgumentException(TEAM_NAME_ERROR);
+        }
+
+        validateIfTeamIsBusy(homeTeam, homeTeamOrdinal);
+        validateIfTeamIsBusy(awayTeam, awayTeamOrdinal);
+        Game.validateTeams(homeTeam, awayTeam);
+
+        final int registeredHomeTeam = teams.register(homeTeam);
+        final int registeredAwayTeam = teams.register(awayTeam);
+
+        if (rows == homeTeams.length) {
+            growRows();
+        }
+        ensureTeamCapacity(Math.max(registeredHomeTeam, registeredAwayTeam));
+
+        final int row = rows++;
+        homeTeams[row] = registeredHomeTeam;
+        awayTeams[row] = registeredAwayTeam;
+        scores[row] = 0;
+        rowByTeam[registeredHomeTeam] = row;
+        rowByTeam[registeredAwayTeam] = row;
+        activeGames++;
+        changed();
+    }
+
+    public synchronized void finishGame(String homeTeam, String awayTeam) {
+        final int row = findRow(teams.ordinalOf(homeTeam), teams.ordinalOf(awayTeam));
+
+        if (row == NO_ROW) {
+            throw new IllegalArgumentException(GAME_NOT_FOUND_ERROR);
+        }
+
+        rowByTeam[homeTeams[row]] = NO_ROW;
+        rowByTeam[awayTeams[row]] = NO_ROW;
+        homeTeams[row] = EMPTY_ROW;
+        activeGames--;
+
+        if (activeGames < rows / 2) {
+            compactRows();
+        }
+        changed();
+    }
+
+    /**
+     * Sets the score of the game. The scores are taken in the game's own team order, as in {@link ScoreBoard}.
+     */
+    public synchronized void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final int row = findRow(teams.ordinalOf(homeTeam), teams.ordinalOf(awayTeam));
+
+        if (row == NO_ROW) {
+            throw new IllegalArgumentException(GAME_NOT_FOUND_ERROR);
+        }
+
+        Game.validateScore(homeScore, awayScore);
+        scores[row] = homeScore << 16 | awayScore;
+        changed();
+    }
+
+    /**
+     * Updates the score only if the game currently has the expected score.
+     *
+     * @return {@code true} if the score was updated, {@code false} if the current score differs from the expected one.
+     */
+    public synchronized boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore,
+                                                   int expectedAwayScore, int homeScore, int awayScore) {
+        final int row = findRow(teams.ordinalOf(homeTeam), teams.ordinalOf(awayTeam));
+
+        if (row == NO_ROW) {
+            throw new IllegalArgumentException(GAME_NOT_FOUND_ERROR);
+        }
+
+        Game.validateScore(homeScore, awayScore);
+
+        // An expected score out of range can never be current, and packing it would alias another score
+        if (!Game.isValidScore(expectedHomeScore, expectedAwayScore)
+                || scores[row] != (expectedHomeScore << 16 | expectedAwayScore)) {
+            return false;
+        }
+
+        scores[row] = homeScore << 16 | awayScore;
+        changed();
+        return true;
+    }
+
+    /**
+     * Returns the games ordered by total score, most recently started first on ties, as in {@link #getSnapshot()}.
+     */
+    public List<ScoreBoardSnapshot.GameScore> getSummaryByTotalScore() {
+        return getSnapshot().games();
+    }
+
+    /**
+     * Returns the first {@code k} games of {@link #getSummaryByTotalScore()}.
+     * <p>
+     * If the board changed since the last snapshot, keeps the best {@code k} games in a bounded heap of primitive
+     * rank keys instead of building the snapshot, so the cost is O(n log k) and only the {@code k} returned records
+     * are allocated.
+     */
+    public synchronized List<ScoreBoardSnapshot.GameScore> getTopByTotalScore(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException(NEGATIVE_LIMIT_ERROR);
+        }
+
+        if (snapshot != null) {
+            return snapshot.games().subList(0, Math.min(k, snapshot.games().size()));
+        }
+
+        final long[] heap = new long[Math.min(k, activeGames)];
+        int heapSize = 0;
+
+        if (heap.length > 0) {
+            for (int row = 0; row < rows; row++) {
+                if (homeTeams[row] == EMPTY_ROW) {
+                    continue;
+                }
+
+                final long key = rankKey(row);
+
+                if (heapSize < heap.length) {
+                    heap[heapSize] = key;
+                    siftUp(heap, heapSize++);
+                } else if (key > heap[0]) {
+                    heap[0] = key;
+                    siftDown(heap, heapSize);
+                }
+            }
+        }
+
+        Arrays.sort(heap, 0, heapSize);
+        final ScoreBoardSnapshot.GameScore[] topGames = new ScoreBoardSnapshot.GameScore[heapSize];
+        for (int i = 0; i < heapSize; i++) {
+            topGames[i] = gameScoreOf((int) heap[heapSize - 1 - i]);
+        }
+        return List.of(topGames);
+    }
+
+    /**
+     * Returns an immutable snapshot of the summary, rebuilt at most once per change of the board.
+     */
+    public synchronized ScoreBoardSnapshot getSnapshot() {
+        if (snapshot == null) {
+            final long[] rankedRows = rankedRows();
+            final ScoreBoardSnapshot.GameScore[] gameScores = new ScoreBoardSnapshot.GameScore[rankedRows.length];
+
+            for (int i = 0; i < gameScores.length; i++) {
+                gameScores[i] = gameScoreOf((int) rankedRows[rankedRows.length - 1 - i]);
+            }
+            snapshot = new ScoreBoardSnapshot(version, List.of(gameScores));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the identifier of the game between the given teams, as {@link ScoreBoard#getGameId} does.
+     */
+    public synchronized long getGameId(String homeTeam, String awayTeam) {
+        return UniqueGameIdGenerator.generateUniqueGameId(teams.ordinalOf(homeTeam), teams.ordinalOf(awayTeam));
+    }
+
+    /**
+     * Returns the rank keys of the games in ascending summary rank, that is the last game of the summary first.
+     */
+    private long[] rankedRows() {
+        final long[] keys = new long[activeGames];
+        int game = 0;
+
+        for (int row = 0; row < rows; row++) {
+            if (homeTeams[row] != EMPTY_ROW) {
+                keys[game++] = rankKey(row);
+            }
+        }
+        Arrays.sort(keys);
+        return keys;
+    }
+
+    /**
+     * Total score in the upper 32 bits and row in the lower 32 bits, so that a higher key ranks higher: rows are in
+     * start order, so the later row wins a tie. The row is the key's lower {@code int}.
+     */
+    private long rankKey(int row) {
+        final int score = scores[row];
+        return (long) ((score >>> 16) + (score & Game.MAX_SCORE)) << 32 | row;
+    }
+
+    private ScoreBoardSnapshot.GameScore gameScoreOf(int row) {
+        return new ScoreBoardSnapshot.GameScore(teams.nameOf(homeTeams[row]), teams.nameOf(awayTeams[row]),
+                scores[row] >>> 16, scores[row] & Game.MAX_SCORE);
+    }
+
+    private int findRow(int homeTeamOrdinal, int awayTeamOrdinal) {
+        if (homeTeamOrdinal < 0 || awayTeamOrdinal < 0 || homeTeamOrdinal >= rowByTeam.length) {
+            return NO_ROW;
+        }
+
+        final int row = rowByTeam[homeTeamOrdinal];
+
+        if (row == NO_ROW) {
+            return NO_ROW;
+        }
+        final boolean sameOrder = homeTeams[row] == homeTeamOrdinal && awayTeams[row] == awayTeamOrdinal;
+        final boolean switchedOrder = homeTeams[row] == awayTeamOrdinal && awayTeams[row] == homeTeamOrdinal;
+        return sameOrder || switchedOrder ? row : NO_ROW;
+    }
+
+    private void validateIfTeamIsBusy(String team, int ordinal) {
+        if (ordinal >= 0 && ordinal < rowByTeam.length && rowByTeam[ordinal] != NO_ROW) {
+            throw new IllegalArgumentException(String.format(TEAM_BUSY_ERROR, team));
+        }
+    }
+
+    private boolean isValidTeamName(String team, int ordinal) {
+        if (ordinal != TeamRegistry.UNKNOWN_TEAM && teams.nameOf(ordinal).equals(team)) {
+            return true;
+        }
+        return isLettersOnly(team);
+    }
+
+    private void growRows() {
+        final int capacity = homeTeams.length * 2;
+        homeTeams = Arrays.copyOf(homeTeams, capacity);
+        awayTeams = Arrays.copyOf(awayTeams, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+    }
+
+    private void ensureTeamCapacity(int ordinal) {
+        if (ordinal >= rowByTeam.length) {
+            final int oldLength = rowByTeam.length;
+            rowByTeam = Arrays.copyOf(rowByTeam, Math.max(ordinal + 1, oldLength * 2));
+            Arrays.fill(rowByTeam, oldLength, rowByTeam.length, NO_ROW);
+        }
+    }
+
+    /**
+     * Moves the games to the front of the arrays, keeping their start order.
+     */
+    private void compactRows() {
+        int target = 0;
+
+        for (int row = 0; row < rows; row++) {
+            if (homeTeams[row] == EMPTY_ROW) {
+                continue;
+            }
+
+            homeTeams[target] = homeTeams[row];
+            awayTeams[target] = awayTeams[row];
+            scores[target] = scores[row];
+            rowByTeam[homeTeams[target]] = target;
+            rowByTeam[awayTeams[target]] = target;
+            target++;
+        }
+        rows = target;
+    }
+
+    private void changed() {
+        version++;
+        snapshot = null;
+    }
+
+    /**
+     * Min-heap on rank keys, so the root is the worst of the kept games.
+     */
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+
+            if (heap[parent] <= heap[index]) {
+                return;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int index = 0;
+
+        while (true) {
+            final int left = 2 * index + 1;
+            final int right = left + 1;
+            int smallest = index;
+
+            if (left < size && heap[left] < heap[smallest]) {
+                smallest = left;
+            }
+            if (right < size && heap[right] < heap[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(long[] heap, int first, int second) {
+        final long value = heap[first];
+        heap[first] = heap[second];
+        heap[second] = value;
+    }
+}
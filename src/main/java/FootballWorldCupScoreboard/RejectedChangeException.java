@@ -0,0 +1,26 @@
+package FootballWorldCupScoreboard;
+
+/**
+ * Thrown when a scoreboard rejects a change, with the {@link ScoreBoardStatus} of the rejection, so that the
+ * rejection is counted by its reason without looking at the message.
+ */
+final class RejectedChangeException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final ScoreBoardStatus status;
+
+    RejectedChangeException(ScoreBoardStatus status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    RejectedChangeException(String message, RejectedChangeException cause) {
+        super(message, cause);
+        this.status = cause.status;
+    }
+
+    ScoreBoardStatus status() {
+        return status;
+    }
+}
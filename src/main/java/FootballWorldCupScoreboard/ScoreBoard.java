@@ -1,87 +1,1348 @@
 package FootballWorldCupScoreboard;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
+/**
+ * Scoreboard of the games in progress.
+ * <p>
+ * The board expects its games to be started, updated and finished from one thread at a time. Readers on any
+ * number of other threads can follow it through {@link #getSnapshot()} or subscribe to its events.
+ */
 public class ScoreBoard {
 
-    private LinkedHashMap<String, Game> games = new LinkedHashMap<>();
+    /**
+     * Summary order: highest total score first, ties broken by the most recently started game.
+     */
+    private static final Comparator<Game> SUMMARY_ORDER = (first, second) -> {
+        if (first.indexedTotalScore != second.indexedTotalScore) {
+            return Integer.compare(second.indexedTotalScore, first.indexedTotalScore);
+        }
+        return Long.compare(second.startSequence, first.startSequence);
+    };
+
+    /**
+     * Start order: by start time, ties broken by the order the games were started in.
+     */
+    private static final Comparator<Game> START_ORDER = (first, second) -> {
+        if (first.startTimeMillis != second.startTimeMillis) {
+            return Long.compare(first.startTimeMillis, second.startTimeMillis);
+        }
+        return Long.compare(first.startSequence, second.startSequence);
+    };
+
+    /**
+     * Marks a team whose game is finished by an earlier event of the batch being validated.
+     */
+    private static final Object FINISHED_IN_BATCH = new Object();
+
+    /**
+     * Games in progress in start order.
+     */
+    private final TreeSet<Game> games = new TreeSet<>(START_ORDER);
+
+    private final GamesView gamesView = new BoardGamesView();
+
+    private final TeamRegistry teams = new TeamRegistry();
+
+    /**
+     * Game each team is currently playing, indexed by the team's registry ordinal.
+     */
+    private Game[] gamesByTeam = new Game[16];
+
+    private final TreeSet<Game> rankedGames = new TreeSet<>(SUMMARY_ORDER);
+
+    private final FinishedGamesArchive archive = new FinishedGamesArchive(teams);
+
+    private final GroupStandings standings = new GroupStandings(teams);
+
+    private long nextStartSequence;
+
+    /**
+     * Start time of the most recently started game. Start times never go back, even if the clock does, so the start
+     * order by time is also the order the games were started in.
+     */
+    private long latestStartTimeMillis = Long.MIN_VALUE;
+
+    private List<Game> summary = List.of();
+
+    private long version;
+
+    /**
+     * Latest published snapshot, or {@code null} once the board has changed and the snapshot has not been rebuilt.
+     */
+    private volatile ScoreBoardSnapshot snapshot = ScoreBoardSnapshot.EMPTY;
+
+    /**
+     * Most recently published snapshots, oldest first, kept to compute deltas against.
+     */
+    private final ArrayDeque<ScoreBoardSnapshot> recentSnapshots = new ArrayDeque<>(List.of(ScoreBoardSnapshot.EMPTY));
+
+    /**
+     * Deltas to the newest of {@link #recentSnapshots}, by the version they start from, with the full delta under
+     * {@link ScoreBoardDelta#FULL_VERSION}. Holds at most one entry per recent snapshot and the full delta.
+     */
+    private final Map<Long, ScoreBoardDelta> deltasToLatest = new HashMap<>();
+
+    private final ScoreEventPublisher events;
+
+    /**
+     * Journal every change is appended to before it is applied, or {@code null} for a board kept only in memory.
+     */
+    private final ScoreEventJournal journal;
+
+    private final Clock clock;
+
+    /**
+     * Metrics of the board, or {@code null} until {@link #enableMetrics()} is called.
+     */
+    private volatile ScoreBoardMetrics metrics;
+
+    static final String GAME_EXISTS_ERROR = "A game between these teams already exists.";
+
+    static final String TEAM_BUSY_ERROR = "%s team is already playing another game.";
+
+    static final String TEAM_NAME_ERROR = "Team names should contain only letters (a-z, A-Z).";
+
+    static final String GAME_NOT_FOUND_ERROR = "Game not found.";
+
+    private static final String BATCH_EVENT_ERROR = "Event %d rejected: %s";
+
+    static final String NEGATIVE_LIMIT_ERROR = "Number of games cannot be negative.";
+
+    static final int SNAPSHOT_HISTORY_SIZE = 64;
+
+    private static final String TOTAL_SCORE_RANGE_ERROR = "Minimum total score cannot be higher than the maximum.";
+
+    private static final String NO_JOURNAL_ERROR = "Scoreboard has no journal to write a checkpoint to.";
+
+    private static final String FIXTURES_REJECTED_ERROR = "%d of %d fixtures rejected:";
+
+    private static final String FIXTURE_ERROR = "%nFixture %d (%s - %s): %s";
+
+    /**
+     * Smallest number of fixtures whose team names are checked in parallel by {@link #startGames}.
+     */
+    static final int PARALLEL_VALIDATION_THRESHOLD = 1024;
+
+    public ScoreBoard() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param eventExecutor Executor that delivers the board's events to subscribers.
+     */
+    public ScoreBoard(Executor eventExecutor) {
+        this(eventExecutor, Clock.systemUTC());
+    }
+
+    /**
+     * @param clock Clock that gives games their start and finish times.
+     */
+    ScoreBoard(Executor eventExecutor, Clock clock) {
+        this.events = new ScoreEventPublisher(eventExecutor);
+        this.journal = null;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a board that survives restarts: the board is restored from the latest checkpoint in the journal and
+     * the events journaled after it, and every later change is appended to the journal before it is applied. The
+     * caller closes the journal when the board is no longer used.
+     *
+     * @param eventExecutor Executor that delivers the board's events to subscribers.
+     */
+    public ScoreBoard(Executor eventExecutor, ScoreEventJournal journal) {
+        this(eventExecutor, journal, Clock.systemUTC());
+    }
+
+    /**
+     * @param clock Clock that gives games their start and finish times.
+     */
+    ScoreBoard(Executor eventExecutor, ScoreEventJournal journal, Clock clock) {
+        this.events = new ScoreEventPublisher(eventExecutor);
+        this.journal = journal;
+        this.clock = clock;
+
+        restoreCheckpoint(journal.recoveredCheckpoint());
+        final List<ScoreEvent> recoveredEvents = journal.recoveredEvents();
+        if (!recoveredEvents.isEmpty()) {
+            applyValidatedBatch(recoveredEvents, validateBatch(recoveredEvents));
+        }
+    }
+
+    /**
+     * Writes the state of the board to a checkpoint in the journal, so that recovery starts from it instead of
+     * replaying every event, and deletes the journal segments the checkpoint replaces. Meant to be called
+     * periodically, for example from a {@link java.util.concurrent.ScheduledExecutorService}.
+     * <p>
+     * The checkpoint holds the games in progress with their start times and the archive of finished games, so a
+     * recovered board has the same history whether or not a checkpoint replaced the segments it was journaled in.
+     * Writers wait only while the team dictionary, the packed scores and the archive's columns are copied and the
+     * journal swaps in a buffer for its next segment; the ended segment is fsynced and the checkpoint is encoded and
+     * written to disk while the board keeps changing.
+     *
+     * @throws IllegalStateException if the board has no journal.
+     */
+    public void checkpoint() {
+        if (journal == null) {
+            throw new IllegalStateException(NO_JOURNAL_ERROR);
+        }
+
+        final ScoreEventJournal.Checkpoint checkpoint;
+
+        synchronized (this) {
+            final List<String> teamNames = new ArrayList<>(teams.size());
+            for (int ordinal = 0; ordinal < teams.size(); ordinal++) {
+                teamNames.add(teams.nameOf(ordinal));
+            }
+
+            final int[] gameFields = new int[games.size() * ScoreEventJournal.Checkpoint.GAME_FIELDS];
+            final long[] gameSequences = new long[games.size()];
+            final long[] gameStartTimes = new long[games.size()];
+            int field = 0;
+            for (Game game : games) {
+                final Game.Score score = game.getScore();
+                gameSequences[field / ScoreEventJournal.Checkpoint.GAME_FIELDS] = game.getLatestSequence();
+                gameStartTimes[field / ScoreEventJournal.Checkpoint.GAME_FIELDS] = game.startTimeMillis;
+                gameFields[field++] = checkpointTeamIndex(game.getHomeTeam(), teamNames);
+                gameFields[field++] = checkpointTeamIndex(game.getAwayTeam(), teamNames);
+                gameFields[field++] = score.homeScore() << 16 | score.awayScore();
+            }
+
+            final int finishedGames = Math.toIntExact(archive.size());
+            final int[] finishedGameFields = new int[finishedGames * ScoreEventJournal.Checkpoint.GAME_FIELDS];
+            final long[] finishedTimes = new long[finishedGames * ScoreEventJournal.Checkpoint.FINISHED_TIME_FIELDS];
+            archive.copyTo(finishedGameFields, finishedTimes);
+
+            checkpoint = new ScoreEventJournal.Checkpoint(journal.roll(), teamNames.toArray(String[]::new),
+                    gameFields, gameSequences, gameStartTimes, finishedGameFields, finishedTimes);
+        }
+        journal.writeCheckpoint(checkpoint);
+    }
+
+    public synchronized void startGame(String homeTeam, String awayTeam) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            final int homeTeamOrdinal = teams.ordinalOf(homeTeam);
+            final int awayTeamOrdinal = teams.ordinalOf(awayTeam);
+
+            validateGameStartConditions(homeTeam, awayTeam, homeTeamOrdinal, awayTeamOrdinal);
+            journalGameStarted(homeTeam, awayTeam);
+            rankedGames.add(insertGame(homeTeam, awayTeam, homeTeamOrdinal, awayTeamOrdinal));
+            changed();
+        } catch (IllegalArgumentException exception) {
+            throw rejected(metrics, exception);
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.START_GAME, startNanos);
+        }
+    }
+
+    /**
+     * Starts the game like {@link #startGame}, but reports a rejected start through the returned status instead of
+     * throwing.
+     *
+     * @return {@link ScoreBoardStatus#OK} if the game was started, otherwise the reason it was not.
+     */
+    public synchronized ScoreBoardStatus tryStartGame(String homeTeam, String awayTeam) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            final int homeTeamOrdinal = teams.ordinalOf(homeTeam);
+            final int awayTeamOrdinal = teams.ordinalOf(awayTeam);
+            final ScoreBoardStatus status = gameStartStatus(homeTeam, awayTeam, homeTeamOrdinal, awayTeamOrdinal);
+
+            if (status != ScoreBoardStatus.OK) {
+                return rejected(metrics, status);
+            }
+
+            journalGameStarted(homeTeam, awayTeam);
+            rankedGames.add(insertGame(homeTeam, awayTeam, homeTeamOrdinal, awayTeamOrdinal));
+            changed();
+            return ScoreBoardStatus.OK;
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.START_GAME, startNanos);
+        }
+    }
+
+    public synchronized void finishGame(String homeTeam, String awayTeam) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            final Game game = findGame(homeTeam, awayTeam);
+
+            if (game == null) {
+                throw new RejectedChangeException(ScoreBoardStatus.GAME_NOT_FOUND, GAME_NOT_FOUND_ERROR);
+            }
+
+            finish(game);
+        } catch (IllegalArgumentException exception) {
+            throw rejected(metrics, exception);
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.FINISH_GAME, startNanos);
+        }
+    }
+
+    /**
+     * Finishes the game like {@link #finishGame}, but reports a game that is not on the board through the returned
+     * status instead of throwing, so feeds that routinely repeat finishes cost a branch rather than an exception.
+     *
+     * @return {@link ScoreBoardStatus#OK} if the game was finished, otherwise {@link ScoreBoardStatus#GAME_NOT_FOUND}.
+     */
+    public synchronized ScoreBoardStatus tryFinishGame(String homeTeam, String awayTeam) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            final Game game = findGame(homeTeam, awayTeam);
+
+            if (game == null) {
+                return rejected(metrics, ScoreBoardStatus.GAME_NOT_FOUND);
+            }
+
+            finish(game);
+            return ScoreBoardStatus.OK;
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.FINISH_GAME, startNanos);
+        }
+    }
+
+    public synchronized void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            final Game game = findGame(homeTeam, awayTeam);
+
+            if (game == null) {
+                throw new RejectedChangeException(ScoreBoardStatus.GAME_NOT_FOUND, GAME_NOT_FOUND_ERROR);
+            }
 
-    private static final String GAME_EXISTS_ERROR = "A game between these teams already exists.";
+            Game.validateScore(homeScore, awayScore);
+            updateScore(game, ScoreEvent.ScoreUpdated.NO_SEQUENCE, homeScore, awayScore);
+        } catch (IllegalArgumentException exception) {
+            throw rejected(metrics, exception);
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.UPDATE_SCORE, startNanos);
+        }
+    }
 
-    private static final String TEAM_BUSY_ERROR = "%s team is already playing another game.";
+    /**
+     * Updates the score like {@link #updateScore}, but reports a rejected update through the returned status instead
+     * of throwing, so feeds that routinely send updates for finished games cost a branch rather than an exception.
+     *
+     * @return {@link ScoreBoardStatus#OK} if the score was updated, otherwise
+     * {@link ScoreBoardStatus#GAME_NOT_FOUND} or {@link ScoreBoardStatus#INVALID_SCORE}.
+     */
+    public synchronized ScoreBoardStatus tryUpdateScore(String homeTeam, String awayTeam, int homeScore,
+                                                        int awayScore) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
 
-    private static final String TEAM_NAME_PATTERN = "[a-zA-Z]+";
+        try {
+            final Game game = findGame(homeTeam, awayTeam);
 
-    private static final String TEAM_NAME_ERROR = "Team names should contain only letters (a-z, A-Z).";
+            if (game == null) {
+                return rejected(metrics, ScoreBoardStatus.GAME_NOT_FOUND);
+            }
 
-    private static final String GAME_NOT_FOUND_ERROR = "Game not found.";
+            if (!Game.isValidScore(homeScore, awayScore)) {
+                return rejected(metrics, ScoreBoardStatus.INVALID_SCORE);
+            }
 
-    public void startGame(String homeTeam, String awayTeam) {
-        final String gameId = UniqueGameIdGenerator.generateUniqueGameId(homeTeam, awayTeam);
-        validateGameStartConditions(homeTeam, awayTeam, gameId);
-        games.put(gameId, new Game(homeTeam, awayTeam));
+            updateScore(game, ScoreEvent.ScoreUpdated.NO_SEQUENCE, homeScore, awayScore);
+            return ScoreBoardStatus.OK;
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.UPDATE_SCORE, startNanos);
+        }
     }
 
-    public void finishGame(String homeTeam, String awayTeam) {
-        final String gameId = UniqueGameIdGenerator.generateUniqueGameId(homeTeam, awayTeam);
+    /**
+     * Updates the score like {@link #tryUpdateScore(String, String, int, int)}, but only if the sequence number is
+     * higher than that of every update already applied to the game with one, so that a feed message delivered twice
+     * or after a later one cannot roll the score back. The sequence number is any value that grows with the game's
+     * score, such as the provider's message counter or timestamp. Redundant feeds can then all send every update:
+     * whichever copy arrives first is applied, and later copies or older updates are dropped with a single
+     * comparison.
+     * <p>
+     * Updates without a sequence number do not take part in the ordering. The sequence number is journaled with the
+     * update and kept in checkpoints, so a late copy is still dropped after the board is recovered.
+     *
+     * @return {@link ScoreBoardStatus#OK} if the score was updated, otherwise
+     * {@link ScoreBoardStatus#GAME_NOT_FOUND}, {@link ScoreBoardStatus#INVALID_SCORE} or
+     * {@link ScoreBoardStatus#STALE_UPDATE}.
+     */
+    public synchronized ScoreBoardStatus tryUpdateScore(String homeTeam, String awayTeam, long sequence, int homeScore,
+                                                        int awayScore) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            final Game game = findGame(homeTeam, awayTeam);
+
+            if (game == null) {
+                return rejected(metrics, ScoreBoardStatus.GAME_NOT_FOUND);
+            }
+
+            if (!Game.isValidScore(homeScore, awayScore)) {
+                return rejected(metrics, ScoreBoardStatus.INVALID_SCORE);
+            }
 
-        if (!games.containsKey(gameId)) {
-            throw new IllegalArgumentException(GAME_NOT_FOUND_ERROR);
+            // Only the board changes its games, so the sequence checked here is still the latest when it is applied
+            if (!game.isNewer(sequence)) {
+                return rejected(metrics, ScoreBoardStatus.STALE_UPDATE);
+            }
+
+            updateScore(game, sequence, homeScore, awayScore);
+            return ScoreBoardStatus.OK;
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.UPDATE_SCORE, startNanos);
         }
+    }
+
+    /**
+     * Starts the games of all the fixtures, as if {@link #startGame} were called for each of them in order, but all
+     * or nothing: if any fixture would be rejected, none of the games is started.
+     * <p>
+     * Team names of large batches are checked in parallel on the common fork-join pool. Fixtures that share a team
+     * are found in a single pass over the batch, and the accepted games are journaled as one batch and published as
+     * one change of the board.
+     *
+     * @throws IllegalArgumentException listing every rejected fixture with its position and the reason.
+     */
+    public synchronized void startGames(List<Fixture> fixtures) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            final int[] homeTeamOrdinals = new int[fixtures.size()];
+            final int[] awayTeamOrdinals = new int[fixtures.size()];
+            final String[] nameErrors = validateFixtureNames(fixtures, homeTeamOrdinals, awayTeamOrdinals);
+            final Map<Object, Integer> fixtureOfTeam = new HashMap<>(fixtures.size() * 4);
+            final StringBuilder rejections = new StringBuilder();
+            int rejected = 0;
+
+            for (int position = 0; position < fixtures.size(); position++) {
+                final Fixture fixture = fixtures.get(position);
+                final FixtureRejection rejection = validateFixture(fixture, homeTeamOrdinals[position],
+                        awayTeamOrdinals[position], nameErrors[position], fixtureOfTeam);
 
-        games.remove(gameId);
+                if (rejection != null) {
+                    rejections.append(String.format(FIXTURE_ERROR, position, fixture.homeTeam(), fixture.awayTeam(),
+                            rejection.reason()));
+                    rejected++;
+                    if (metrics != null) {
+                        metrics.recordError(rejection.status());
+                    }
+                } else {
+                    fixtureOfTeam.put(batchKey(fixture.homeTeam(), homeTeamOrdinals[position]), position);
+                    fixtureOfTeam.put(batchKey(fixture.awayTeam(), awayTeamOrdinals[position]), position);
+                }
+            }
+
+            if (rejected > 0) {
+                throw new IllegalArgumentException(String.format(FIXTURES_REJECTED_ERROR, rejected, fixtures.size())
+                        + rejections);
+            }
+
+            if (fixtures.isEmpty()) {
+                return;
+            }
+
+            if (journal != null) {
+                journal.appendAll(fixtures.stream()
+                        .map(fixture -> new ScoreEvent.GameStarted(fixture.homeTeam(), fixture.awayTeam()))
+                        .toList());
+            }
+
+            for (int position = 0; position < fixtures.size(); position++) {
+                final Fixture fixture = fixtures.get(position);
+                rankedGames.add(insertGame(fixture.homeTeam(), fixture.awayTeam(), homeTeamOrdinals[position],
+                        awayTeamOrdinals[position]));
+            }
+            changed();
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.START_GAMES, startNanos);
+        }
     }
 
-    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
-        final String gameId = UniqueGameIdGenerator.generateUniqueGameId(homeTeam, awayTeam);
-        final Game game = games.get(gameId);
+    /**
+     * Updates the score only if the game currently has the expected score, for example to drop a feed message that
+     * was sent for an older score.
+     *
+     * @return {@code true} if the score was updated, {@code false} if the current score differs from the expected one.
+     */
+    public synchronized boolean compareAndSetScore(String homeTeam, String awayTeam, int expectedHomeScore,
+                                                   int expectedAwayScore, int homeScore, int awayScore) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
 
-        if (game == null) {
-            throw new IllegalArgumentException(GAME_NOT_FOUND_ERROR);
+        try {
+            final Game game = findGame(homeTeam, awayTeam);
+
+            if (game == null) {
+                throw new RejectedChangeException(ScoreBoardStatus.GAME_NOT_FOUND, GAME_NOT_FOUND_ERROR);
+            }
+
+            Game.validateScore(homeScore, awayScore);
+
+            // Only the board changes its games, so the score compared here is still current when it is replaced
+            final Game.Score score = game.getScore();
+            if (score.homeScore() != expectedHomeScore || score.awayScore() != expectedAwayScore) {
+                return false;
+            }
+
+            updateScore(game, ScoreEvent.ScoreUpdated.NO_SEQUENCE, homeScore, awayScore);
+            return true;
+        } catch (IllegalArgumentException exception) {
+            throw rejected(metrics, exception);
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.COMPARE_AND_SET_SCORE, startNanos);
         }
+    }
 
-        game.updateScore(homeScore, awayScore);
+    /**
+     * Applies the events in order as if {@link #startGame}, {@link #updateScore} and {@link #finishGame} were called
+     * for each of them, but all or nothing: the whole batch is validated first, including events that depend on
+     * earlier events of the batch, and if any event would fail none of them is applied. The ranked index is
+     * updated once per changed game at the end of the batch rather than once per event. A score update with a
+     * sequence number is applied like any other, and its sequence number is recorded for later numbered updates.
+     *
+     * @throws IllegalArgumentException naming the position of the first event that would fail and the reason.
+     */
+    public synchronized void applyAll(Collection<? extends ScoreEvent> events) {
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            final Game[] boardGames = validateBatch(events);
+
+            if (journal != null && !events.isEmpty()) {
+                journal.appendAll(events);
+            }
+            applyValidatedBatch(events, boardGames);
+        } catch (IllegalArgumentException exception) {
+            throw rejected(metrics, exception);
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.APPLY_ALL, startNanos);
+        }
+    }
+
+    /**
+     * Applies a batch that passed {@link #validateBatch}.
+     *
+     * @param boardGames Games of the board the events refer to, as resolved by the validation.
+     */
+    private void applyValidatedBatch(Collection<? extends ScoreEvent> events, Game[] boardGames) {
+        final List<Game> rescoredGames = new ArrayList<>(events.size());
+        final Set<Game> startedGames = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Game> finishedGames = Collections.newSetFromMap(new IdentityHashMap<>());
+        int position = 0;
+
+        for (ScoreEvent event : events) {
+            Game game = boardGames[position++];
+
+            if (event instanceof ScoreEvent.GameStarted) {
+                startedGames.add(insertGame(event.homeTeam(), event.awayTeam(), teams.ordinalOf(event.homeTeam()),
+                        teams.ordinalOf(event.awayTeam())));
+                continue;
+            }
+
+            if (game == null) {
+                game = findGame(event.homeTeam(), event.awayTeam());
+            }
+
+            if (event instanceof ScoreEvent.ScoreUpdated updated) {
+                applyScore(game, updated.sequence(), updated.homeScore(), updated.awayScore());
+                publishScore(game);
+                rescoredGames.add(game);
+            } else {
+                removeGame(game);
+                finishedGames.add(game);
+            }
+        }
+
+        for (Game game : finishedGames) {
+            if (!startedGames.remove(game)) {
+                rankedGames.remove(game);
+            }
+        }
+
+        for (Game game : startedGames) {
+            game.indexedTotalScore = game.getTotalScore();
+            rankedGames.add(game);
+        }
+
+        for (Game game : rescoredGames) {
+            if (!startedGames.contains(game) && !finishedGames.contains(game)) {
+                reindex(game);
+            }
+        }
+        changed();
     }
 
+    /**
+     * Returns the games ordered by total score, most recently started first on ties.
+     * <p>
+     * The order is kept up to date by every mutation, so reading the summary is a walk over the ranked index.
+     * The returned list is immutable and is reused until the next change to the scoreboard.
+     */
     public List<Game> getSummaryByTotalScore() {
-        if (games.size() == 1) {
-            return games.values().stream().toList();
+        final ScoreBoardMetrics metrics = this.metrics;
+        final long startNanos = metrics != null ? System.nanoTime() : 0L;
+
+        try {
+            if (summary == null) {
+                summary = List.copyOf(rankedGames);
+            }
+            return summary;
+        } finally {
+            timed(metrics, ScoreBoardMetrics.Operation.GET_SUMMARY, startNanos);
+        }
+    }
+
+    /**
+     * Returns the first {@code k} games of {@link #getSummaryByTotalScore()}, with the same order and tie-breaking.
+     * <p>
+     * Only the first {@code k} entries of the ranked index are visited, so the cost depends on {@code k} and not on
+     * the size of the board. The returned list is immutable.
+     */
+    public List<Game> getTopByTotalScore(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException(NEGATIVE_LIMIT_ERROR);
+        }
+
+        if (summary != null) {
+            return summary.subList(0, Math.min(k, summary.size()));
+        }
+
+        final Game[] topGames = new Game[Math.min(k, rankedGames.size())];
+        final Iterator<Game> ranked = rankedGames.iterator();
+
+        for (int i = 0; i < topGames.length; i++) {
+            topGames[i] = ranked.next();
+        }
+        return List.of(topGames);
+    }
+
+    /**
+     * Returns the games whose total score is between the bounds, both inclusive, in the order of
+     * {@link #getSummaryByTotalScore()}. For example {@code getGamesByTotalScore(5, Integer.MAX_VALUE)} returns every
+     * game with at least five goals.
+     * <p>
+     * The range is looked up in the ranked index, so the cost grows with the number of games returned and only
+     * logarithmically with the size of the board. The returned list is immutable.
+     */
+    public List<Game> getGamesByTotalScore(int minTotalScore, int maxTotalScore) {
+        if (minTotalScore > maxTotalScore) {
+            throw new IllegalArgumentException(TOTAL_SCORE_RANGE_ERROR);
+        }
+
+        return List.copyOf(rankedGames.subSet(Game.probe(maxTotalScore, Long.MAX_VALUE, 0L), true,
+                Game.probe(minTotalScore, Long.MIN_VALUE, 0L), true));
+    }
+
+    /**
+     * Returns the games started at or after the given time, oldest first. Games restored from a checkpoint keep their
+     * start time, while games replayed from the journal after it count as started when they were replayed.
+     * <p>
+     * The games are kept in start order, so the cost grows with the number of games returned and only
+     * logarithmically with the size of the board. The game a team is playing is found with
+     * {@link GamesView#findByTeam} on {@link #getGames()}. The returned list is immutable.
+     */
+    public List<Game> getGamesStartedSince(Instant since) {
+        return List.copyOf(games.tailSet(Game.probe(0, Long.MIN_VALUE, since.toEpochMilli()), true));
+    }
+
+    /**
+     * Subscribes to the events of the board: {@link ScoreEvent.GameStarted}, {@link ScoreEvent.ScoreUpdated} with the
+     * game's new score, and {@link ScoreEvent.GameFinished}, in the order they happen.
+     * <p>
+     * Events are buffered per subscriber and delivered on the board's event executor as the subscriber requests them,
+     * so subscribers never slow the board down. Undelivered score updates of a game are coalesced into the latest
+     * one; a subscriber that still falls more than {@link ScoreEventPublisher#DEFAULT_BUFFER_CAPACITY} events behind
+     * is cancelled with {@link IllegalStateException}.
+     */
+    public void subscribe(Flow.Subscriber<? super ScoreEvent> subscriber) {
+        events.subscribe(subscriber);
+    }
+
+    /**
+     * Subscribes to the events of the board like {@link #subscribe(Flow.Subscriber)}, with a buffer of the given
+     * number of events.
+     */
+    public void subscribe(Flow.Subscriber<? super ScoreEvent> subscriber, int bufferCapacity) {
+        events.subscribe(subscriber, bufferCapacity);
+    }
+
+    /**
+     * Returns an immutable snapshot of the summary that is safe to read from any thread.
+     * <p>
+     * The snapshot is rebuilt at most once per change of the board, on the first request after the change, and
+     * games whose score did not change keep their records from the previous snapshot. While the board is unchanged
+     * every caller gets the same instance with a single volatile read and no allocation.
+     */
+    public ScoreBoardSnapshot getSnapshot() {
+        final ScoreBoardSnapshot current = snapshot;
+        return current != null ? current : rebuildSnapshot();
+    }
+
+    /**
+     * Returns what changed in the summary since the given version of {@link #getSnapshot()}, up to the current
+     * version, so that clients holding an older summary can catch up without receiving it whole.
+     * <p>
+     * The last {@value #SNAPSHOT_HISTORY_SIZE} published snapshots are kept to compute deltas against. For an older
+     * or unknown version the delta is {@link ScoreBoardDelta#full() full} and carries the whole current summary.
+     * Clients at the same version share one computed delta, and every client sent a full delta shares the same one.
+     */
+    public synchronized ScoreBoardDelta getChangesSince(long version) {
+        final ScoreBoardSnapshot current = getSnapshot();
+        final ScoreBoardSnapshot from = findRecentSnapshot(version);
+        final long fromVersion = from != null ? version : ScoreBoardDelta.FULL_VERSION;
+        ScoreBoardDelta delta = deltasToLatest.get(fromVersion);
+
+        if (delta == null) {
+            delta = from != null ? ScoreBoardDelta.between(from, current) : ScoreBoardDelta.full(current);
+            deltasToLatest.put(fromVersion, delta);
+        }
+        return delta;
+    }
+
+    /**
+     * Returns a read-only view of the games in progress, in start order. Like the board's other live state, the view
+     * is meant for the thread that changes the board; other threads follow the board through {@link #getSnapshot()}.
+     */
+    public GamesView getGames() {
+        return gamesView;
+    }
+
+    /**
+     * Returns the history of the games finished on this board, each archived with its final score when it is
+     * finished. A board recovered from its journal restores the games archived in its checkpoint with their times,
+     * and archives the games finished again from the segments after it at recovery time.
+     */
+    public FinishedGamesArchive getArchive() {
+        return archive;
+    }
+
+    /**
+     * Registers a group of teams whose games are counted in a live table, see {@link GroupStandings}. Games between
+     * the teams that are already finished or in progress are counted right away.
+     *
+     * @throws IllegalArgumentException if the group is registered, has fewer than two teams, or a team name is
+     *                                  invalid or already belongs to a group.
+     */
+    public synchronized void addGroup(String group, List<String> groupTeams) {
+        standings.addGroup(group, groupTeams, games, archive);
+    }
+
+    /**
+     * Returns the live tables of the groups added with {@link #addGroup}, readable from any thread.
+     */
+    public GroupStandings getStandings() {
+        return standings;
+    }
+
+    /**
+     * Starts recording metrics of the board's operations, see {@link ScoreBoardMetrics}, and returns them. Calling it
+     * again returns the same metrics. Until it is called, the operations only check that metrics are disabled.
+     */
+    public synchronized ScoreBoardMetrics enableMetrics() {
+        if (metrics == null) {
+            metrics = new ScoreBoardMetrics(games.size());
+        }
+        return metrics;
+    }
+
+    /**
+     * Returns the ID of the game between the given teams, see {@link GamesView#findById}, or
+     * {@link UniqueGameIdGenerator#NO_GAME_ID} if either team has never played on this scoreboard.
+     */
+    public long getGameId(String homeTeam, String awayTeam) {
+        return UniqueGameIdGenerator.generateUniqueGameId(teams.ordinalOf(homeTeam), teams.ordinalOf(awayTeam));
+    }
+
+    private synchronized ScoreBoardSnapshot rebuildSnapshot() {
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        final ScoreBoardSnapshot.GameScore[] gameScores = new ScoreBoardSnapshot.GameScore[rankedGames.size()];
+        int position = 0;
+
+        for (Game game : rankedGames) {
+            final Game.Score score = game.getScore();
+            ScoreBoardSnapshot.GameScore gameScore = game.publishedScore;
+
+            if (gameScore == null || gameScore.homeScore() != score.homeScore()
+                    || gameScore.awayScore() != score.awayScore()) {
+                gameScore = new ScoreBoardSnapshot.GameScore(game.getHomeTeam(), game.getAwayTeam(),
+                        score.homeScore(), score.awayScore());
+                game.publishedScore = gameScore;
+            }
+            gameScores[position++] = gameScore;
+        }
+
+        snapshot = new ScoreBoardSnapshot(version, List.of(gameScores));
+
+        if (recentSnapshots.size() == SNAPSHOT_HISTORY_SIZE) {
+            recentSnapshots.removeFirst();
+        }
+        recentSnapshots.addLast(snapshot);
+        deltasToLatest.clear();
+        return snapshot;
+    }
+
+    private ScoreBoardSnapshot findRecentSnapshot(long version) {
+        for (ScoreBoardSnapshot recentSnapshot : recentSnapshots) {
+            if (recentSnapshot.version() == version) {
+                return recentSnapshot;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates the game and registers it with every index except the ranked one. The game shares the registry's
+     * string of each team whose name it spells the same way.
+     *
+     * @param homeTeamOrdinal Ordinal of the home team, or {@link TeamRegistry#UNKNOWN_TEAM} to register it.
+     * @param awayTeamOrdinal Ordinal of the away team, or {@link TeamRegistry#UNKNOWN_TEAM} to register it.
+     */
+    private Game insertGame(String homeTeam, String awayTeam, int homeTeamOrdinal, int awayTeamOrdinal) {
+        return insertGame(homeTeam, awayTeam, homeTeamOrdinal, awayTeamOrdinal, clock.millis());
+    }
+
+    /**
+     * @param startTimeMillis Start time of the game, moved up to the latest start time if the clock went back.
+     */
+    private Game insertGame(String homeTeam, String awayTeam, int homeTeamOrdinal, int awayTeamOrdinal,
+                            long startTimeMillis) {
+        if (homeTeamOrdinal == TeamRegistry.UNKNOWN_TEAM) {
+            homeTeamOrdinal = teams.register(homeTeam);
+        }
+        if (awayTeamOrdinal == TeamRegistry.UNKNOWN_TEAM) {
+            awayTeamOrdinal = teams.register(awayTeam);
+        }
+
+        latestStartTimeMillis = Math.max(latestStartTimeMillis, startTimeMillis);
+        final Game game = new Game(teams.intern(homeTeamOrdinal, homeTeam), teams.intern(awayTeamOrdinal, awayTeam),
+                homeTeamOrdinal, awayTeamOrdinal, nextStartSequence++, latestStartTimeMillis);
+
+        games.add(game);
+        ensureTeamCapacity(Math.max(homeTeamOrdinal, awayTeamOrdinal));
+        gamesByTeam[homeTeamOrdinal] = game;
+        gamesByTeam[awayTeamOrdinal] = game;
+        standings.gameStarted(game);
+
+        if (events.hasSubscribers()) {
+            events.publish(game.gameId, new ScoreEvent.GameStarted(homeTeam, awayTeam));
+        }
+        return game;
+    }
+
+    /**
+     * Moves the game to the archive and removes it from every index except the ranked one.
+     */
+    private void removeGame(Game game) {
+        archive.add(game, clock.millis());
+        games.remove(game);
+        gamesByTeam[game.homeTeamOrdinal] = null;
+        gamesByTeam[game.awayTeamOrdinal] = null;
+
+        if (events.hasSubscribers()) {
+            events.publish(game.gameId, new ScoreEvent.GameFinished(game.getHomeTeam(), game.getAwayTeam()));
+        }
+    }
+
+    /**
+     * Returns the index of the team name in the checkpoint's dictionary: its ordinal, or a new entry after the
+     * registered names when the game spells the team differently from the registry.
+     */
+    private int checkpointTeamIndex(String team, List<String> teamNames) {
+        final int ordinal = teams.ordinalOf(team);
+
+        if (teamNames.get(ordinal).equals(team)) {
+            return ordinal;
+        }
+        teamNames.add(team);
+        return teamNames.size() - 1;
+    }
+
+    /**
+     * Registers the teams of the checkpoint in ordinal order, archives its finished games, then starts its games in
+     * their start order with their start times and scores.
+     */
+    private void restoreCheckpoint(ScoreEventJournal.Checkpoint checkpoint) {
+        for (String team : checkpoint.teams()) {
+            teams.register(team);
+        }
+
+        final int[] finishedGames = checkpoint.finishedGames();
+        final long[] finishedTimes = checkpoint.finishedTimes();
+        for (int game = 0; game < checkpoint.finishedGameCount(); game++) {
+            final int field = game * ScoreEventJournal.Checkpoint.GAME_FIELDS;
+            final int time = game * ScoreEventJournal.Checkpoint.FINISHED_TIME_FIELDS;
+            archive.restore(finishedGames[field], finishedGames[field + 1], finishedGames[field + 2],
+                    finishedTimes[time], finishedTimes[time + 1]);
+        }
+
+        final int[] gameFields = checkpoint.games();
+        final long[] gameStartTimes = checkpoint.gameStartTimes();
+        for (int game = 0; game < checkpoint.gameCount(); game++) {
+            final int field = game * ScoreEventJournal.Checkpoint.GAME_FIELDS;
+            final String homeTeam = checkpoint.teams()[gameFields[field]];
+            final String awayTeam = checkpoint.teams()[gameFields[field + 1]];
+            final Game restored = insertGame(homeTeam, awayTeam, teams.ordinalOf(homeTeam), teams.ordinalOf(awayTeam),
+                    gameStartTimes[game]);
+            restored.updateScoreWithSequence(checkpoint.gameSequences()[game], gameFields[field + 2] >>> 16,
+                    gameFields[field + 2] & 0xFFFF);
+            standings.scoreChanged(restored);
+            restored.indexedTotalScore = restored.getTotalScore();
+            rankedGames.add(restored);
+        }
+
+        if (gameFields.length > 0) {
+            changed();
+        }
+    }
+
+    /**
+     * Journals and applies a score update of a board game whose score, if the board has a journal, was validated.
+     * The update is journaled under the game's team names, which were checked when it started, rather than the
+     * caller's spelling.
+     *
+     * @param sequence Sequence number the update was checked against, or {@link ScoreEvent.ScoreUpdated#NO_SEQUENCE}.
+     */
+    private void updateScore(Game game, long sequence, int homeScore, int awayScore) {
+        journalScoreUpdated(game, homeScore, awayScore, sequence);
+        applyScore(game, sequence, homeScore, awayScore);
+        publishScore(game);
+        reindex(game);
+        changed();
+    }
+
+    /**
+     * Sets the score of the game, recording the sequence number unless there is none, so that unnumbered updates do
+     * not take the game's lock.
+     */
+    private static void applyScore(Game game, long sequence, int homeScore, int awayScore) {
+        if (sequence == ScoreEvent.ScoreUpdated.NO_SEQUENCE) {
+            game.updateScore(homeScore, awayScore);
+        } else {
+            game.updateScoreWithSequence(sequence, homeScore, awayScore);
+        }
+    }
+
+    private void finish(Game game) {
+        journalGameFinished(game);
+        removeGame(game);
+        rankedGames.remove(game);
+        changed();
+    }
+
+    private void journalGameStarted(String homeTeam, String awayTeam) {
+        if (journal != null) {
+            journal.appendGameStarted(homeTeam, awayTeam);
+        }
+    }
+
+    private void journalScoreUpdated(Game game, int homeScore, int awayScore, long sequence) {
+        if (journal != null) {
+            journal.appendScoreUpdated(game.getHomeTeam(), game.getAwayTeam(), homeScore, awayScore, sequence);
+        }
+    }
+
+    private void journalGameFinished(Game game) {
+        if (journal != null) {
+            journal.appendGameFinished(game.getHomeTeam(), game.getAwayTeam());
+        }
+    }
+
+    /**
+     * Passes the new score of the game to the group standings and to the subscribers.
+     */
+    private void publishScore(Game game) {
+        standings.scoreChanged(game);
+
+        if (events.hasSubscribers()) {
+            final Game.Score score = game.getScore();
+            events.publish(game.gameId, new ScoreEvent.ScoreUpdated(game.getHomeTeam(), game.getAwayTeam(),
+                    score.homeScore(), score.awayScore()));
+        }
+    }
+
+    private Game findGame(String homeTeam, String awayTeam) {
+        return findGame(teams.ordinalOf(homeTeam), teams.ordinalOf(awayTeam));
+    }
+
+    private Game findGame(int homeTeamOrdinal, int awayTeamOrdinal) {
+        final long gameId = UniqueGameIdGenerator.generateUniqueGameId(homeTeamOrdinal, awayTeamOrdinal);
+
+        if (gameId == UniqueGameIdGenerator.NO_GAME_ID) {
+            return null;
+        }
+
+        final Game game = gameOfTeam(homeTeamOrdinal);
+        return game != null && game.gameId == gameId ? game : null;
+    }
+
+    private Game findGame(long gameId) {
+        final Game game = gameOfTeam(UniqueGameIdGenerator.lowerOrdinalOf(gameId));
+        return game != null && game.gameId == gameId ? game : null;
+    }
+
+    private Game gameOfTeam(int ordinal) {
+        return ordinal >= 0 && ordinal < gamesByTeam.length ? gamesByTeam[ordinal] : null;
+    }
+
+    private void ensureTeamCapacity(int ordinal) {
+        if (ordinal >= gamesByTeam.length) {
+            gamesByTeam = Arrays.copyOf(gamesByTeam, Math.max(ordinal + 1, gamesByTeam.length * 2));
+        }
+    }
+
+    private void reindex(Game game) {
+        final int totalScore = game.getTotalScore();
+
+        if (game.indexedTotalScore != totalScore) {
+            rankedGames.remove(game);
+            game.indexedTotalScore = totalScore;
+            rankedGames.add(game);
+        }
+    }
+
+    private void changed() {
+        version++;
+        summary = null;
+        snapshot = null;
+
+        final ScoreBoardMetrics metrics = this.metrics;
+        if (metrics != null) {
+            metrics.setActiveGames(games.size());
+        }
+    }
+
+    private static IllegalArgumentException rejected(ScoreBoardMetrics metrics, IllegalArgumentException exception) {
+        if (metrics != null && exception instanceof RejectedChangeException rejection) {
+            metrics.recordError(rejection.status());
+        }
+        return exception;
+    }
+
+    private static ScoreBoardStatus rejected(ScoreBoardMetrics metrics, ScoreBoardStatus status) {
+        if (metrics != null) {
+            metrics.recordError(status);
+        }
+        return status;
+    }
+
+    private static void timed(ScoreBoardMetrics metrics, ScoreBoardMetrics.Operation operation, long startNanos) {
+        if (metrics != null) {
+            metrics.record(operation, startNanos);
         }
+    }
 
-        final List<Game> gamesList = new ArrayList<>(games.values());
-        Collections.reverse(gamesList);
+    private void validateGameStartConditions(String homeTeam, String awayTeam, int homeTeamOrdinal,
+                                             int awayTeamOrdinal) {
+        if (findGame(homeTeamOrdinal, awayTeamOrdinal) != null) {
+            throw new RejectedChangeException(ScoreBoardStatus.GAME_EXISTS, GAME_EXISTS_ERROR);
+        }
 
-        return gamesList.stream().sorted(Comparator.comparingInt((Game game) ->
-                        game.getAwayScore() + game.getHomeScore())
-                .reversed()).toList();
+        if (!isValidTeamName(homeTeam, homeTeamOrdinal) || !isValidTeamName(awayTeam, awayTeamOrdinal)) {
+            throw new RejectedChangeException(ScoreBoardStatus.INVALID_TEAM_NAME, TEAM_NAME_ERROR);
+        }
+
+        validateIfTeamIsBusy(homeTeam, homeTeamOrdinal);
+        validateIfTeamIsBusy(awayTeam, awayTeamOrdinal);
+
+        // Checked here rather than by the Game constructor, so that a rejected start is never journaled
+        Game.validateTeams(homeTeam, awayTeam);
     }
 
-    public LinkedHashMap<String, Game> getGames() {
-        return games;
+    /**
+     * Checks the start of a game like {@link #validateGameStartConditions} and the team checks of {@link Game}, in
+     * the same order, without throwing.
+     */
+    private ScoreBoardStatus gameStartStatus(String homeTeam, String awayTeam, int homeTeamOrdinal,
+                                             int awayTeamOrdinal) {
+        if (findGame(homeTeamOrdinal, awayTeamOrdinal) != null) {
+            return ScoreBoardStatus.GAME_EXISTS;
+        }
+
+        if (!isValidTeamName(homeTeam, homeTeamOrdinal) || !isValidTeamName(awayTeam, awayTeamOrdinal)) {
+            return ScoreBoardStatus.INVALID_TEAM_NAME;
+        }
+
+        if (gameOfTeam(homeTeamOrdinal) != null || gameOfTeam(awayTeamOrdinal) != null) {
+            return ScoreBoardStatus.TEAM_BUSY;
+        }
+        return Game.hasValidTeams(homeTeam, awayTeam) ? ScoreBoardStatus.OK : ScoreBoardStatus.INVALID_TEAM_NAME;
+    }
+
+    private void validateIfTeamIsBusy(String team, int ordinal) {
+        if (gameOfTeam(ordinal) != null) {
+            throw new RejectedChangeException(ScoreBoardStatus.TEAM_BUSY, String.format(TEAM_BUSY_ERROR, team));
+        }
     }
 
-    private void validateGameStartConditions(String homeTeam, String awayTeam, String gameId) {
-        if (validateIfGameExists(gameId)) {
-            throw new IllegalArgumentException(GAME_EXISTS_ERROR);
+    /**
+     * Names in the registry were validated when they were registered, so a team spelled exactly as registered is
+     * not checked again.
+     */
+    private boolean isValidTeamName(String team, int ordinal) {
+        if (ordinal != TeamRegistry.UNKNOWN_TEAM && teams.nameOf(ordinal).equals(team)) {
+            return true;
         }
+        return isLettersOnly(team);
+    }
 
-        if (!homeTeam.matches(TEAM_NAME_PATTERN) || !awayTeam.matches(TEAM_NAME_PATTERN)) {
-            throw new IllegalArgumentException(TEAM_NAME_ERROR);
+    /**
+     * Returns whether the name is non-empty and made only of the letters a-z and A-Z, in one pass over its characters
+     * and without allocating.
+     */
+    static boolean isLettersOnly(String team) {
+        if (team == null || team.isEmpty()) {
+            return false;
         }
 
-        validateIfTeamIsBusy(homeTeam);
-        validateIfTeamIsBusy(awayTeam);
+        for (int i = 0; i < team.length(); i++) {
+            final char letter = team.charAt(i);
+
+            if ((letter < 'a' || letter > 'z') && (letter < 'A' || letter > 'Z')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resolves the team ordinals of every fixture and checks its team names, in parallel for large batches. The board
+     * is not changed while the names are checked, so the workers only read it.
+     *
+     * @return For every fixture, the reason its names are rejected, or {@code null} if they are valid.
+     */
+    private String[] validateFixtureNames(List<Fixture> fixtures, int[] homeTeamOrdinals, int[] awayTeamOrdinals) {
+        final String[] nameErrors = new String[fixtures.size()];
+        IntStream positions = IntStream.range(0, fixtures.size());
+
+        if (fixtures.size() >= PARALLEL_VALIDATION_THRESHOLD) {
+            positions = positions.parallel();
+        }
+
+        positions.forEach(position -> {
+            final Fixture fixture = fixtures.get(position);
+            homeTeamOrdinals[position] = teams.ordinalOf(fixture.homeTeam());
+            awayTeamOrdinals[position] = teams.ordinalOf(fixture.awayTeam());
+
+            if (!isValidTeamName(fixture.homeTeam(), homeTeamOrdinals[position])
+                    || !isValidTeamName(fixture.awayTeam(), awayTeamOrdinals[position])) {
+                nameErrors[position] = TEAM_NAME_ERROR;
+            }
+        });
+        return nameErrors;
+    }
+
+    /**
+     * Checks the fixture against the board and the fixtures accepted before it, in the same order as
+     * {@link #startGame}.
+     *
+     * @param fixtureOfTeam Position of the accepted fixture each team plays in, keyed like the batch overlay.
+     * @return Why the fixture is rejected, or {@code null} if it is accepted.
+     */
+    private FixtureRejection validateFixture(Fixture fixture, int homeTeamOrdinal, int awayTeamOrdinal,
+                                             String nameError, Map<Object, Integer> fixtureOfTeam) {
+        final String homeTeam = fixture.homeTeam();
+        final String awayTeam = fixture.awayTeam();
+
+        if (findGame(homeTeamOrdinal, awayTeamOrdinal) != null) {
+            return new FixtureRejection(ScoreBoardStatus.GAME_EXISTS, GAME_EXISTS_ERROR);
+        }
+
+        if (nameError != null) {
+            return new FixtureRejection(ScoreBoardStatus.INVALID_TEAM_NAME, nameError);
+        }
+
+        final Integer homeTeamFixture = fixtureOfTeam.get(batchKey(homeTeam, homeTeamOrdinal));
+        final Integer awayTeamFixture = fixtureOfTeam.get(batchKey(awayTeam, awayTeamOrdinal));
+
+        if (homeTeamFixture != null && homeTeamFixture.equals(awayTeamFixture)
+                && !homeTeam.equalsIgnoreCase(awayTeam)) {
+            return new FixtureRejection(ScoreBoardStatus.GAME_EXISTS, GAME_EXISTS_ERROR);
+        }
+
+        if (homeTeamFixture != null || gameOfTeam(homeTeamOrdinal) != null) {
+            return new FixtureRejection(ScoreBoardStatus.TEAM_BUSY, String.format(TEAM_BUSY_ERROR, homeTeam));
+        }
+
+        if (awayTeamFixture != null || gameOfTeam(awayTeamOrdinal) != null) {
+            return new FixtureRejection(ScoreBoardStatus.TEAM_BUSY, String.format(TEAM_BUSY_ERROR, awayTeam));
+        }
+
+        try {
+            Game.validateTeams(homeTeam, awayTeam);
+        } catch (RejectedChangeException exception) {
+            return new FixtureRejection(exception.status(), exception.getMessage());
+        }
+        return null;
     }
 
-    private boolean validateIfGameExists(String gameId) {
-        return games.containsKey(gameId);
+    /**
+     * Reason a fixture of {@link #startGames} is rejected, as reported in the exception and counted by the metrics.
+     */
+    private record FixtureRejection(ScoreBoardStatus status, String reason) {
     }
 
-    private void validateIfTeamIsBusy(String team) {
-        if (games.values().stream()
-                .anyMatch(game -> game.getHomeTeam().equalsIgnoreCase(team)
-                        || game.getAwayTeam().equalsIgnoreCase(team))) {
-            throw new IllegalArgumentException(String.format(TEAM_BUSY_ERROR, team));
+    /**
+     * View of {@link #games}, with lookups through {@link #gamesByTeam}.
+     */
+    private final class BoardGamesView extends AbstractCollection<Game> implements GamesView {
+
+        @Override
+        public Iterator<Game> iterator() {
+            return Collections.unmodifiableSet(games).iterator();
+        }
+
+        @Override
+        public int size() {
+            return games.size();
+        }
+
+        @Override
+        public boolean contains(Object object) {
+            return object instanceof Game game && gameOfTeam(game.homeTeamOrdinal) == game;
+        }
+
+        @Override
+        public Optional<Game> find(String homeTeam, String awayTeam) {
+            return Optional.ofNullable(findGame(homeTeam, awayTeam));
+        }
+
+        @Override
+        public Optional<Game> findByTeam(String team) {
+            return Optional.ofNullable(gameOfTeam(teams.ordinalOf(team)));
+        }
+
+        @Override
+        public Optional<Game> findById(long gameId) {
+            return Optional.ofNullable(findGame(gameId));
+        }
+    }
+
+    /**
+     * Checks every event of the batch against the board as changed by the events before it. Games started or
+     * finished within the batch are tracked per team on top of the board's own indexes.
+     *
+     * @return For every event, the board game it refers to, or {@code null} for games started within the batch.
+     */
+    private Game[] validateBatch(Collection<? extends ScoreEvent> events) {
+        final Map<Object, Object> batchGamesByTeam = new HashMap<>();
+        final Game[] boardGames = new Game[events.size()];
+        int position = 0;
+
+        for (ScoreEvent event : events) {
+            try {
+                boardGames[position] = validateBatchEvent(event, batchGamesByTeam);
+            } catch (RejectedChangeException exception) {
+                throw new RejectedChangeException(String.format(BATCH_EVENT_ERROR, position, exception.getMessage()),
+                        exception);
+            }
+            position++;
+        }
+        return boardGames;
+    }
+
+    private Game validateBatchEvent(ScoreEvent event, Map<Object, Object> batchGamesByTeam) {
+        final String homeTeam = event.homeTeam();
+        final String awayTeam = event.awayTeam();
+        final Object homeTeamGame = batchGameOf(homeTeam, batchGamesByTeam);
+        final Object awayTeamGame = batchGameOf(awayTeam, batchGamesByTeam);
+        final boolean gameExists = homeTeamGame != null && homeTeamGame == awayTeamGame
+                && !homeTeam.equalsIgnoreCase(awayTeam);
+
+        if (event instanceof ScoreEvent.GameStarted) {
+            if (gameExists) {
+                throw new RejectedChangeException(ScoreBoardStatus.GAME_EXISTS, GAME_EXISTS_ERROR);
+            }
+
+            if (!isValidTeamName(homeTeam, teams.ordinalOf(homeTeam))
+                    || !isValidTeamName(awayTeam, teams.ordinalOf(awayTeam))) {
+                throw new RejectedChangeException(ScoreBoardStatus.INVALID_TEAM_NAME, TEAM_NAME_ERROR);
+            }
+
+            if (homeTeamGame != null) {
+                throw new RejectedChangeException(ScoreBoardStatus.TEAM_BUSY, String.format(TEAM_BUSY_ERROR, homeTeam));
+            }
+
+            if (awayTeamGame != null) {
+                throw new RejectedChangeException(ScoreBoardStatus.TEAM_BUSY, String.format(TEAM_BUSY_ERROR, awayTeam));
+            }
+
+            Game.validateTeams(homeTeam, awayTeam);
+            final Object startedGame = new Object();
+            batchGamesByTeam.put(batchKey(homeTeam), startedGame);
+            batchGamesByTeam.put(batchKey(awayTeam), startedGame);
+            return null;
+        }
+
+        if (!gameExists) {
+            throw new RejectedChangeException(ScoreBoardStatus.GAME_NOT_FOUND, GAME_NOT_FOUND_ERROR);
+        }
+
+        if (event instanceof ScoreEvent.ScoreUpdated updated) {
+            Game.validateScore(updated.homeScore(), updated.awayScore());
+        } else {
+            batchGamesByTeam.put(batchKey(homeTeam), FINISHED_IN_BATCH);
+            batchGamesByTeam.put(batchKey(awayTeam), FINISHED_IN_BATCH);
+        }
+        return homeTeamGame instanceof Game game ? game : null;
+    }
+
+    /**
+     * Returns the game the team plays once the validated part of the batch is applied: either a board game, a
+     * placeholder for a game started within the batch, or {@code null} if the team is free.
+     */
+    private Object batchGameOf(String team, Map<Object, Object> batchGamesByTeam) {
+        if (team == null) {
+            return null;
+        }
+
+        final int ordinal = teams.ordinalOf(team);
+        final Object batchGame = batchGamesByTeam.isEmpty() ? null : batchGamesByTeam.get(batchKey(team, ordinal));
+
+        if (batchGame != null) {
+            return batchGame == FINISHED_IN_BATCH ? null : batchGame;
+        }
+        return gameOfTeam(ordinal);
+    }
+
+    private Object batchKey(String team) {
+        return batchKey(team, teams.ordinalOf(team));
+    }
+
+    /**
+     * Key of the team in the batch overlay: its ordinal, or for a team not registered yet its name folded character
+     * by character the way {@link String#equalsIgnoreCase} compares it, so every spelling that finds the team once it
+     * is registered also finds it within the batch.
+     */
+    private static Object batchKey(String team, int ordinal) {
+        if (ordinal != TeamRegistry.UNKNOWN_TEAM) {
+            return ordinal;
+        }
+
+        final char[] folded = new char[team.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(team.charAt(i)));
         }
+        return new String(folded);
     }
 }
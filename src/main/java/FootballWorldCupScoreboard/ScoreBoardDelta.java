@@ -0,0 +1,151 @@
+package FootballWorldCupScoreboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes that turn the summary of one {@link ScoreBoardSnapshot} into the summary of a later one.
+ * <p>
+ * A client holding the summary at {@code fromVersion} applies the delta by dropping the {@code removed} and
+ * {@code moved} games, putting the {@code inserted} and {@code moved} games at their new ranks in ascending rank
+ * order, and replacing the scores of the {@code rescored} games. Games are identified by their teams. Only games
+ * whose order relative to the other games changed are reported as moved, so a goal in one game does not move every
+ * game ranked below it.
+ * <p>
+ * A full delta carries the whole summary as {@code inserted}; the client replaces its summary with it.
+ *
+ * @param fromVersion Version the delta applies to, or {@code -1} for a full delta.
+ * @param toVersion   Version of the summary the delta produces.
+ * @param full        Whether the delta carries the whole summary instead of changes.
+ * @param inserted    Games started since {@code fromVersion}, with their ranks.
+ * @param removed     Games finished since {@code fromVersion}, with their last published scores.
+ * @param moved       Games that changed place in the summary, with their new ranks and current scores.
+ * @param rescored    Games that kept their place but changed their score, with their current scores.
+ */
+public record ScoreBoardDelta(long fromVersion, long toVersion, boolean full, List<RankedGameScore> inserted,
+                              List<ScoreBoardSnapshot.GameScore> removed, List<RankedGameScore> moved,
+                              List<ScoreBoardSnapshot.GameScore> rescored) {
+
+    static final long FULL_VERSION = -1L;
+
+    /**
+     * @param rank Zero-based position of the game in the summary.
+     */
+    public record RankedGameScore(int rank, ScoreBoardSnapshot.GameScore game) {
+    }
+
+    public boolean isEmpty() {
+        return !full && inserted.isEmpty() && removed.isEmpty() && moved.isEmpty() && rescored.isEmpty();
+    }
+
+    static ScoreBoardDelta full(ScoreBoardSnapshot snapshot) {
+        final List<ScoreBoardSnapshot.GameScore> games = snapshot.games();
+        final List<RankedGameScore> inserted = new ArrayList<>(games.size());
+
+        for (int rank = 0; rank < games.size(); rank++) {
+            inserted.add(new RankedGameScore(rank, games.get(rank)));
+        }
+        return new ScoreBoardDelta(FULL_VERSION, snapshot.version(), true, List.copyOf(inserted), List.of(), List.of(),
+                List.of());
+    }
+
+    static ScoreBoardDelta between(ScoreBoardSnapshot from, ScoreBoardSnapshot to) {
+        final List<ScoreBoardSnapshot.GameScore> oldGames = from.games();
+        final List<ScoreBoardSnapshot.GameScore> newGames = to.games();
+
+        // A team plays at most one game at a time, so the home team identifies the game within a snapshot
+        final Map<String, Integer> oldRanks = new HashMap<>(oldGames.size() * 2);
+        for (int rank = 0; rank < oldGames.size(); rank++) {
+            oldRanks.put(oldGames.get(rank).homeTeam(), rank);
+        }
+
+        final boolean[] kept = new boolean[oldGames.size()];
+        final int[] oldRankOf = new int[newGames.size()];
+        final List<RankedGameScore> inserted = new ArrayList<>();
+
+        for (int rank = 0; rank < newGames.size(); rank++) {
+            final ScoreBoardSnapshot.GameScore game = newGames.get(rank);
+            final Integer oldRank = oldRanks.get(game.homeTeam());
+
+            if (oldRank != null && oldGames.get(oldRank).awayTeam().equals(game.awayTeam())) {
+                kept[oldRank] = true;
+                oldRankOf[rank] = oldRank;
+            } else {
+                oldRankOf[rank] = -1;
+                inserted.add(new RankedGameScore(rank, game));
+            }
+        }
+
+        final List<ScoreBoardSnapshot.GameScore> removed = new ArrayList<>();
+        for (int rank = 0; rank < oldGames.size(); rank++) {
+            if (!kept[rank]) {
+                removed.add(oldGames.get(rank));
+            }
+        }
+
+        final boolean[] inPlace = longestIncreasingRun(oldRankOf);
+        final List<RankedGameScore> moved = new ArrayList<>();
+        final List<ScoreBoardSnapshot.GameScore> rescored = new ArrayList<>();
+
+        for (int rank = 0; rank < newGames.size(); rank++) {
+            if (oldRankOf[rank] < 0) {
+                continue;
+            }
+
+            final ScoreBoardSnapshot.GameScore game = newGames.get(rank);
+
+            if (!inPlace[rank]) {
+                moved.add(new RankedGameScore(rank, game));
+            } else if (!game.equals(oldGames.get(oldRankOf[rank]))) {
+                rescored.add(game);
+            }
+        }
+
+        return new ScoreBoardDelta(from.version(), to.version(), false, List.copyOf(inserted), List.copyOf(removed),
+                List.copyOf(moved), List.copyOf(rescored));
+    }
+
+    /**
+     * Marks the kept games that form a longest subsequence with increasing old ranks. Those games are still in the
+     * same order relative to each other, so only the others have to move.
+     *
+     * @param oldRanks Old rank of the game at each new rank, or {@code -1} for an inserted game.
+     */
+    private static boolean[] longestIncreasingRun(int[] oldRanks) {
+        // tails[length - 1] is the new rank ending the best run of that length found so far
+        final int[] tails = new int[oldRanks.length];
+        final int[] previous = new int[oldRanks.length];
+        int length = 0;
+
+        for (int rank = 0; rank < oldRanks.length; rank++) {
+            if (oldRanks[rank] < 0) {
+                continue;
+            }
+
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (oldRanks[tails[middle]] < oldRanks[rank]) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+
+            previous[rank] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = rank;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        final boolean[] inRun = new boolean[oldRanks.length];
+        for (int rank = length > 0 ? tails[length - 1] : -1; rank >= 0; rank = previous[rank]) {
+            inRun[rank] = true;
+        }
+        return inRun;
+    }
+}
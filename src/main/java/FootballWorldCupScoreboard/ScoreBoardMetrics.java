@@ -0,0 +1,122 @@
+package FootballWorldCupScoreboard;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Counters, latency histograms and the active game gauge of one scoreboard, returned by
+ * {@link ScoreBoard#enableMetrics()}.
+ * <p>
+ * Every call of an instrumented operation is timed, including the calls that throw, and every rejection is counted
+ * by its {@link ScoreBoardStatus}. The metrics can be read from any thread, or published over JMX by registering
+ * them as an MXBean:
+ * <pre>
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(scoreBoard.enableMetrics(),
+ *         new ObjectName("FootballWorldCupScoreboard:type=ScoreBoard,name=main"));
+ * </pre>
+ */
+public final class ScoreBoardMetrics implements ScoreBoardMetricsMXBean {
+
+    public enum Operation {
+        START_GAME,
+        START_GAMES,
+        UPDATE_SCORE,
+        COMPARE_AND_SET_SCORE,
+        FINISH_GAME,
+        APPLY_ALL,
+        GET_SUMMARY
+    }
+
+    private final Map<Operation, LatencyHistogram> latencies = new EnumMap<>(Operation.class);
+
+    private final Map<ScoreBoardStatus, LongAdder> errors = new EnumMap<>(ScoreBoardStatus.class);
+
+    private volatile int activeGames;
+
+    ScoreBoardMetrics(int activeGames) {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+        for (ScoreBoardStatus status : ScoreBoardStatus.values()) {
+            if (status != ScoreBoardStatus.OK) {
+                errors.put(status, new LongAdder());
+            }
+        }
+        this.activeGames = activeGames;
+    }
+
+    public long operationCount(Operation operation) {
+        return latencies.get(operation).count();
+    }
+
+    public long errorCount(ScoreBoardStatus status) {
+        final LongAdder count = errors.get(status);
+        return count != null ? count.sum() : 0L;
+    }
+
+    public LatencyHistogram latency(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    @Override
+    public int getActiveGames() {
+        return activeGames;
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(LatencyHistogram::count);
+    }
+
+    @Override
+    public Map<String, Long> getErrorCounts() {
+        final Map<String, Long> counts = new LinkedHashMap<>();
+
+        for (Map.Entry<ScoreBoardStatus, LongAdder> error : errors.entrySet()) {
+            counts.put(error.getKey().name(), error.getValue().sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getMedianLatencies() {
+        return byOperation(latency -> latency.valueAtPercentile(50.0));
+    }
+
+    @Override
+    public Map<String, Long> getP99Latencies() {
+        return byOperation(latency -> latency.valueAtPercentile(99.0));
+    }
+
+    @Override
+    public Map<String, Long> getMaxLatencies() {
+        return byOperation(LatencyHistogram::max);
+    }
+
+    /**
+     * Records one call of the operation that started at the given {@link System#nanoTime()}.
+     */
+    void record(Operation operation, long startNanos) {
+        latencies.get(operation).record(System.nanoTime() - startNanos);
+    }
+
+    void recordError(ScoreBoardStatus status) {
+        errors.get(status).increment();
+    }
+
+    void setActiveGames(int activeGames) {
+        this.activeGames = activeGames;
+    }
+
+    private Map<String, Long> byOperation(ToLongFunction<LatencyHistogram> metric) {
+        final Map<String, Long> values = new LinkedHashMap<>();
+
+        for (Map.Entry<Operation, LatencyHistogram> latency : latencies.entrySet()) {
+            values.put(latency.getKey().name(), metric.applyAsLong(latency.getValue()));
+        }
+        return values;
+    }
+}
@@ -0,0 +1,22 @@
+package FootballWorldCupScoreboard;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link ScoreBoardMetrics}. Maps are keyed by the names of {@link ScoreBoardMetrics.Operation} and
+ * {@link ScoreBoardStatus} constants, and latencies are in nanoseconds.
+ */
+public interface ScoreBoardMetricsMXBean {
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Long> getErrorCounts();
+
+    Map<String, Long> getMedianLatencies();
+
+    Map<String, Long> getP99Latencies();
+
+    Map<String, Long> getMaxLatencies();
+
+    int getActiveGames();
+}
@@ -0,0 +1,22 @@
+package FootballWorldCupScoreboard;
+
+import java.util.List;
+
+/**
+ * Immutable summary of a scoreboard at one version: the games in summary order, each as a plain record of team
+ * names and scores. Snapshots can be shared freely between threads and never change after they are published.
+ *
+ * @param version Number of changes the scoreboard had seen when the snapshot was taken.
+ * @param games   Games ordered by total score, most recently started first on ties.
+ */
+public record ScoreBoardSnapshot(long version, List<GameScore> games) {
+
+    static final ScoreBoardSnapshot EMPTY = new ScoreBoardSnapshot(0L, List.of());
+
+    public record GameScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+
+        public int totalScore() {
+            return homeScore + awayScore;
+        }
+    }
+}
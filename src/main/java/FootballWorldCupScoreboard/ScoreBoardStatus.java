@@ -0,0 +1,28 @@
+package FootballWorldCupScoreboard;
+
+/**
+ * Outcome of a scoreboard operation: {@link #OK} or the reason the board rejected it. Returned by the {@code try}
+ * methods of {@link ScoreBoard}, and rejections are counted by {@link ScoreBoardMetrics}.
+ */
+public enum ScoreBoardStatus {
+
+    OK,
+
+    GAME_EXISTS,
+
+    TEAM_BUSY,
+
+    /**
+     * A team name is missing, not made of letters only, too long, or both teams are the same.
+     */
+    INVALID_TEAM_NAME,
+
+    GAME_NOT_FOUND,
+
+    INVALID_SCORE,
+
+    /**
+     * The update's sequence number is not higher than that of an update already applied to the game.
+     */
+    STALE_UPDATE
+}
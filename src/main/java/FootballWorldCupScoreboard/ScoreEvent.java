@@ -0,0 +1,35 @@
+package FootballWorldCupScoreboard;
+
+/**
+ * A change to a scoreboard: a game started, its score updated or the game finished.
+ * <p>
+ * Batches of events are applied with {@link ScoreBoard#applyAll}, and the board publishes the events it applies
+ * to subscribers of {@link ScoreBoard#subscribe}.
+ */
+public sealed interface ScoreEvent {
+
+    String homeTeam();
+
+    String awayTeam();
+
+    record GameStarted(String homeTeam, String awayTeam) implements ScoreEvent {
+    }
+
+    /**
+     * @param sequence Sequence number the feed gave the update, see
+     *                 {@link ScoreBoard#tryUpdateScore(String, String, long, int, int)}, or {@link #NO_SEQUENCE}.
+     *                 Applying the event records it as the game's latest sequence number.
+     */
+    record ScoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence)
+            implements ScoreEvent {
+
+        public static final long NO_SEQUENCE = Long.MIN_VALUE;
+
+        public ScoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+            this(homeTeam, awayTeam, homeScore, awayScore, NO_SEQUENCE);
+        }
+    }
+
+    record GameFinished(String homeTeam, String awayTeam) implements ScoreEvent {
+    }
+}
@@ -0,0 +1,820 @@
+package FootballWorldCupScoreboard;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only write-ahead journal of the events of a {@link ScoreBoard}, from which the board is rebuilt after a
+ * restart.
+ * <p>
+ * The journal is a directory of numbered segments. Events are stored as compact binary frames: a frame holds one
+ * event, or all events of one {@link ScoreBoard#applyAll} batch, behind its length and checksum. A frame cut short
+ * by a crash fails the checksum, so recovery replays every complete frame and drops the torn tail.
+ * <p>
+ * With a group commit interval, appending only encodes the event into memory; a background thread writes and
+ * fsyncs everything appended since the previous commit once per interval, so an update costs no I/O and a crash
+ * loses at most the events of the last interval. With {@link Duration#ZERO} every append is written and fsynced
+ * before it returns.
+ * <p>
+ * {@link ScoreBoard#checkpoint()} writes the state of the board as a checkpoint next to the segments. Recovery then
+ * loads the latest checkpoint and replays only the segments written after it, and older segments are deleted.
+ */
+public final class ScoreEventJournal implements Closeable {
+
+    private static final byte GAME_STARTED = 1;
+
+    private static final byte SCORE_UPDATED = 2;
+
+    private static final byte GAME_FINISHED = 3;
+
+    /**
+     * Score update with the sequence number its feed gave it, which {@link #SCORE_UPDATED} frames leave out.
+     */
+    private static final byte SEQUENCED_SCORE_UPDATED = 4;
+
+    private static final int FRAME_HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final int MAX_TEAM_NAME_LENGTH = 0xFFFF;
+
+    private static final int CHECKPOINT_MAGIC = 0x53424350;
+
+    private static final int CHECKPOINT_FORMAT = 1;
+
+    private static final String SEGMENT_FILE = "segment-%019d.journal";
+
+    private static final String CHECKPOINT_FILE = "checkpoint-%019d.snapshot";
+
+    private static final Pattern JOURNAL_FILE_PATTERN =
+            Pattern.compile("(segment|checkpoint)-(\\d{19})\\.(journal|snapshot)");
+
+    private static final String TEAM_NAME_LENGTH_ERROR = "Team names longer than %d UTF-8 bytes cannot be journaled.";
+
+    private static final String NEGATIVE_INTERVAL_ERROR = "Group commit interval cannot be negative.";
+
+    private static final String CLOSED_ERROR = "Journal is closed.";
+
+    private final Path directory;
+
+    private final Checkpoint recoveredCheckpoint;
+
+    private final List<ScoreEvent> recoveredEvents;
+
+    private final ScheduledExecutorService committer;
+
+    /**
+     * Guards {@link #pending}, {@link #ended} and {@link #appendSegment}; held only while encoding or swapping
+     * buffers.
+     */
+    private final ReentrantLock bufferLock = new ReentrantLock();
+
+    /**
+     * Checksum of the frames being committed, reset for every frame. Used under {@link #commitLock}.
+     */
+    private final CRC32C checksum = new CRC32C();
+
+    /**
+     * Serializes commits, which also move on to the segments started by {@link #roll()}, so frames reach the files in
+     * the order they were appended.
+     */
+    private final ReentrantLock commitLock = new ReentrantLock();
+
+    /**
+     * Serializes checkpoints, so an older checkpoint never replaces a newer one.
+     */
+    private final ReentrantLock checkpointLock = new ReentrantLock();
+
+    private FileChannel channel;
+
+    /**
+     * Segment {@link #channel} writes to. Used under {@link #commitLock}.
+     */
+    private long segment;
+
+    /**
+     * Segment the events appended now belong to, ahead of {@link #segment} while {@link #ended} holds segments
+     * that are not committed yet.
+     */
+    private long appendSegment;
+
+    private ByteBuffer pending = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    private ByteBuffer committing = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Frames of the segments ended by {@link #roll()} and not committed yet, oldest first.
+     */
+    private final ArrayDeque<ByteBuffer> ended = new ArrayDeque<>();
+
+    private volatile IOException failure;
+
+    private volatile boolean closed;
+
+    private ScoreEventJournal(Path directory, Checkpoint recoveredCheckpoint, List<ScoreEvent> recoveredEvents,
+                              FileChannel channel, long segment, Duration groupCommitInterval) {
+        this.directory = directory;
+        this.recoveredCheckpoint = recoveredCheckpoint;
+        this.recoveredEvents = recoveredEvents;
+        this.channel = channel;
+        this.segment = segment;
+        this.appendSegment = segment;
+
+        if (groupCommitInterval.isZero()) {
+            committer = null;
+        } else {
+            committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "score-event-journal");
+                thread.setDaemon(true);
+                return thread;
+            });
+            final long intervalNanos = groupCommitInterval.toNanos();
+            committer.scheduleWithFixedDelay(this::commitInBackground, intervalNanos, intervalNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Opens the journal in the given directory, creating it if it does not exist, and reads the latest checkpoint and
+     * the events journaled after it.
+     *
+     * @param groupCommitInterval How often appended events are written and fsynced, or {@link Duration#ZERO} to
+     *                            fsync every append.
+     */
+    public static ScoreEventJournal open(Path directory, Duration groupCommitInterval) throws IOException {
+        if (groupCommitInterval.isNegative()) {
+            throw new IllegalArgumentException(NEGATIVE_INTERVAL_ERROR);
+        }
+
+        Files.createDirectories(directory);
+
+        final TreeMap<Long, Path> segments = new TreeMap<>();
+        final TreeMap<Long, Path> checkpoints = new TreeMap<>();
+        listJournalFiles(directory, segments, checkpoints);
+
+        // A checkpoint that fails its checksum was cut short while being written; the previous one still holds
+        Checkpoint checkpoint = Checkpoint.EMPTY;
+        for (Path checkpointFile : checkpoints.descendingMap().values()) {
+            final Checkpoint candidate = readCheckpoint(checkpointFile);
+            if (candidate != null) {
+                checkpoint = candidate;
+                break;
+            }
+        }
+
+        final List<ScoreEvent> events = new ArrayList<>();
+        final long lastSegment = segments.isEmpty() ? checkpoint.segment() : Math.max(segments.lastKey(),
+                checkpoint.segment());
+
+        for (Path segmentFile : segments.tailMap(checkpoint.segment()).headMap(lastSegment).values()) {
+            try (FileChannel segmentChannel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+                readFrames(segmentChannel, events);
+            }
+        }
+
+        final FileChannel channel = openSegment(directory, lastSegment);
+        try {
+            final long validLength = readFrames(channel, events);
+
+            channel.truncate(validLength);
+            channel.position(validLength);
+            return new ScoreEventJournal(directory, checkpoint, events, channel, lastSegment, groupCommitInterval);
+        } catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Forces every event appended so far to disk.
+     */
+    public void sync() {
+        try {
+            commit();
+        } catch (IOException exception) {
+            failure = exception;
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Commits the events appended so far and closes the current segment. Appending afterwards fails.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        if (committer != null) {
+            committer.shutdown();
+            try {
+                committer.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        try {
+            commit();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    /**
+     * State of the board at the latest checkpoint found when the journal was opened.
+     */
+    Checkpoint recoveredCheckpoint() {
+        return recoveredCheckpoint;
+    }
+
+    /**
+     * Events journaled after {@link #recoveredCheckpoint()}, in the order they were appended.
+     */
+    List<ScoreEvent> recoveredEvents() {
+        return recoveredEvents;
+    }
+
+    void appendGameStarted(String homeTeam, String awayTeam) {
+        appendFrame(GAME_STARTED, homeTeam, awayTeam, 0, 0, ScoreEvent.ScoreUpdated.NO_SEQUENCE);
+    }
+
+    /**
+     * Appends a score update as its own frame, encoded straight from its fields, so the update path of the board
+     * allocates nothing.
+     *
+     * @param sequence Sequence number of the update, or {@link ScoreEvent.ScoreUpdated#NO_SEQUENCE}.
+     */
+    void appendScoreUpdated(String homeTeam, String awayTeam, int homeScore, int awayScore, long sequence) {
+        appendFrame(sequence == ScoreEvent.ScoreUpdated.NO_SEQUENCE ? SCORE_UPDATED : SEQUENCED_SCORE_UPDATED,
+                homeTeam, awayTeam, homeScore, awayScore, sequence);
+    }
+
+    void appendGameFinished(String homeTeam, String awayTeam) {
+        appendFrame(GAME_FINISHED, homeTeam, awayTeam, 0, 0, ScoreEvent.ScoreUpdated.NO_SEQUENCE);
+    }
+
+    /**
+     * Appends the events as one frame, so that recovery replays either all of them or none.
+     *
+     * @throws IllegalArgumentException if a team name is too long to be encoded; nothing is appended then.
+     * @throws UncheckedIOException     if an earlier commit failed.
+     */
+    void appendAll(Collection<? extends ScoreEvent> events) {
+        checkAppendable();
+
+        int payloadSize = 0;
+        for (ScoreEvent event : events) {
+            payloadSize += encodedSize(event);
+        }
+
+        bufferLock.lock();
+        try {
+            ensureCapacity(FRAME_HEADER_SIZE + payloadSize);
+
+            final int frameStart = pending.position();
+            pending.position(frameStart + FRAME_HEADER_SIZE);
+            for (ScoreEvent event : events) {
+                encode(event, pending);
+            }
+            sealFrame(frameStart, payloadSize);
+        } finally {
+            bufferLock.unlock();
+        }
+
+        if (committer == null) {
+            sync();
+        }
+    }
+
+    /**
+     * Appends one event as its own frame.
+     *
+     * @param homeScore Home score of a score update, ignored for the other types.
+     * @param awayScore Away score of a score update, ignored for the other types.
+     * @param sequence  Sequence number of a {@link #SEQUENCED_SCORE_UPDATED} event, ignored for the other types.
+     */
+    private void appendFrame(byte type, String homeTeam, String awayTeam, int homeScore, int awayScore,
+                             long sequence) {
+        checkAppendable();
+
+        final int payloadSize = encodedSize(type, homeTeam, awayTeam);
+
+        bufferLock.lock();
+        try {
+            ensureCapacity(FRAME_HEADER_SIZE + payloadSize);
+
+            final int frameStart = pending.position();
+            pending.position(frameStart + FRAME_HEADER_SIZE);
+            encode(type, homeTeam, awayTeam, homeScore, awayScore, sequence, pending);
+            sealFrame(frameStart, payloadSize);
+        } finally {
+            bufferLock.unlock();
+        }
+
+        if (committer == null) {
+            sync();
+        }
+    }
+
+    private void checkAppendable() {
+        if (closed) {
+            throw new IllegalStateException(CLOSED_ERROR);
+        }
+
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * Writes the length of the frame encoded after its header. Its checksum is filled in when the frame is
+     * committed, see {@link #checksumFrames}. Called under {@link #bufferLock}.
+     */
+    private void sealFrame(int frameStart, int payloadSize) {
+        pending.putInt(frameStart, payloadSize);
+    }
+
+    /**
+     * Fills in the checksum of every frame in the buffer, which holds whole frames from its start to its position.
+     * Done by the commit rather than the append, so the caller of a group-committed append does not pay for it.
+     */
+    private void checksumFrames(ByteBuffer frames) {
+        final int end = frames.position();
+        int frameStart = 0;
+
+        while (frameStart < end) {
+            final int payloadStart = frameStart + FRAME_HEADER_SIZE;
+            final int payloadEnd = payloadStart + frames.getInt(frameStart);
+
+            checksum.reset();
+            checksum.update(frames.limit(payloadEnd).position(payloadStart));
+            frames.limit(frames.capacity());
+            frames.putInt(frameStart + Integer.BYTES, (int) checksum.getValue());
+            frameStart = payloadEnd;
+        }
+        frames.position(end);
+    }
+
+    /**
+     * Ends the current segment, so later events are appended to a new one. Only the buffers are swapped: the next
+     * commit writes and fsyncs the ended segment, closes it and opens the new one. Must be called while no events
+     * are appended, so that the segments before the returned one hold exactly the events appended before the call.
+     *
+     * @return Number of the new segment.
+     */
+    long roll() {
+        checkAppendable();
+
+        bufferLock.lock();
+        try {
+            ended.addLast(pending);
+            pending = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            return ++appendSegment;
+        } finally {
+            bufferLock.unlock();
+        }
+    }
+
+    /**
+     * Commits the segments ended by {@link #roll()}, writes the checkpoint through a memory-mapped file, makes it the
+     * latest one and deletes the segments and checkpoints it replaces. A checkpoint older than the latest one written
+     * is dropped.
+     */
+    void writeCheckpoint(Checkpoint checkpoint) {
+        sync();
+
+        checkpointLock.lock();
+        try {
+            final TreeMap<Long, Path> segments = new TreeMap<>();
+            final TreeMap<Long, Path> checkpoints = new TreeMap<>();
+            listJournalFiles(directory, segments, checkpoints);
+
+            if (!checkpoints.isEmpty() && checkpoints.lastKey() >= checkpoint.segment()) {
+                return;
+            }
+
+            final Path checkpointFile = directory.resolve(String.format(CHECKPOINT_FILE, checkpoint.segment()));
+            final Path temporaryFile = directory.resolve(checkpointFile.getFileName() + ".tmp");
+
+            try (FileChannel checkpointChannel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final MappedByteBuffer buffer = checkpointChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                        checkpoint.encodedSize());
+                checkpoint.encode(buffer);
+                buffer.force();
+            }
+            Files.move(temporaryFile, checkpointFile, StandardCopyOption.ATOMIC_MOVE);
+
+            for (Path segmentFile : segments.headMap(checkpoint.segment()).values()) {
+                Files.deleteIfExists(segmentFile);
+            }
+            for (Path olderCheckpoint : checkpoints.values()) {
+                Files.deleteIfExists(olderCheckpoint);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        } finally {
+            checkpointLock.unlock();
+        }
+    }
+
+    private void commitInBackground() {
+        try {
+            commit();
+        } catch (IOException exception) {
+            // Surfaces on the next append, which is the first call that can report it
+            failure = exception;
+        }
+    }
+
+    private void commit() throws IOException {
+        commitLock.lock();
+        try {
+            if (!channel.isOpen()) {
+                return;
+            }
+
+            final List<ByteBuffer> endedSegments;
+            bufferLock.lock();
+            try {
+                if (pending.position() == 0 && ended.isEmpty()) {
+                    return;
+                }
+
+                endedSegments = new ArrayList<>(ended);
+                ended.clear();
+                final ByteBuffer appended = pending;
+                pending = committing;
+                committing = appended;
+            } finally {
+                bufferLock.unlock();
+            }
+
+            for (ByteBuffer frames : endedSegments) {
+                write(frames);
+                channel.close();
+                channel = openSegment(directory, ++segment);
+            }
+            write(committing);
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    /**
+     * Writes the frames to the current segment and fsyncs it. Called under {@link #commitLock}.
+     */
+    private void write(ByteBuffer frames) throws IOException {
+        if (frames.position() == 0) {
+            return;
+        }
+
+        checksumFrames(frames);
+        frames.flip();
+        while (frames.hasRemaining()) {
+            channel.write(frames);
+        }
+        frames.clear();
+        channel.force(false);
+    }
+
+    private void ensureCapacity(int frameSize) {
+        if (pending.remaining() < frameSize) {
+            final ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(2 * pending.capacity(),
+                    pending.position() + frameSize));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+    }
+
+    private static FileChannel openSegment(Path directory, long segment) throws IOException {
+        return FileChannel.open(directory.resolve(String.format(SEGMENT_FILE, segment)), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static void listJournalFiles(Path directory, TreeMap<Long, Path> segments, TreeMap<Long, Path> checkpoints)
+            throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                final Matcher matcher = JOURNAL_FILE_PATTERN.matcher(file.getFileName().toString());
+
+                if (matcher.matches()) {
+                    final long number = Long.parseLong(matcher.group(2));
+                    (matcher.group(1).equals("segment") ? segments : checkpoints).put(number, file);
+                }
+            }
+        }
+    }
+
+    private static int encodedSize(ScoreEvent event) {
+        return encodedSize(typeOf(event), event.homeTeam(), event.awayTeam());
+    }
+
+    private static int encodedSize(byte type, String homeTeam, String awayTeam) {
+        final int size = 1 + teamNameSize(homeTeam) + teamNameSize(awayTeam);
+
+        if (type == SEQUENCED_SCORE_UPDATED) {
+            return size + 2 * Short.BYTES + Long.BYTES;
+        }
+        return type == SCORE_UPDATED ? size + 2 * Short.BYTES : size;
+    }
+
+    private static byte typeOf(ScoreEvent event) {
+        if (event instanceof ScoreEvent.GameStarted) {
+            return GAME_STARTED;
+        }
+
+        if (event instanceof ScoreEvent.ScoreUpdated updated) {
+            return updated.sequence() == ScoreEvent.ScoreUpdated.NO_SEQUENCE ? SCORE_UPDATED : SEQUENCED_SCORE_UPDATED;
+        }
+        return GAME_FINISHED;
+    }
+
+    private static int teamNameSize(String team) {
+        final int length = isAscii(team) ? team.length() : team.getBytes(StandardCharsets.UTF_8).length;
+
+        if (length > MAX_TEAM_NAME_LENGTH) {
+            throw new IllegalArgumentException(String.format(TEAM_NAME_LENGTH_ERROR, MAX_TEAM_NAME_LENGTH));
+        }
+        return Short.BYTES + length;
+    }
+
+    private static void encode(ScoreEvent event, ByteBuffer buffer) {
+        if (event instanceof ScoreEvent.ScoreUpdated updated) {
+            encode(typeOf(event), updated.homeTeam(), updated.awayTeam(), updated.homeScore(), updated.awayScore(),
+                    updated.sequence(), buffer);
+        } else {
+            encode(typeOf(event), event.homeTeam(), event.awayTeam(), 0, 0, ScoreEvent.ScoreUpdated.NO_SEQUENCE,
+                    buffer);
+        }
+    }
+
+    private static void encode(byte type, String homeTeam, String awayTeam, int homeScore, int awayScore,
+                               long sequence, ByteBuffer buffer) {
+        buffer.put(type);
+        encodeTeamName(homeTeam, buffer);
+        encodeTeamName(awayTeam, buffer);
+
+        if (type == SCORE_UPDATED || type == SEQUENCED_SCORE_UPDATED) {
+            buffer.putShort((short) homeScore);
+            buffer.putShort((short) awayScore);
+        }
+
+        if (type == SEQUENCED_SCORE_UPDATED) {
+            buffer.putLong(sequence);
+        }
+    }
+
+    /**
+     * Encodes the name in UTF-8. Names the board checked hold only the letters a-z and A-Z, which are written one
+     * byte per character without allocating, but a batch may still spell a team another way that matches it
+     * case-insensitively, such as with the Kelvin sign for K.
+     */
+    private static void encodeTeamName(String team, ByteBuffer buffer) {
+        if (!isAscii(team)) {
+            final byte[] encoded = team.getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) encoded.length);
+            buffer.put(encoded);
+            return;
+        }
+
+        buffer.putShort((short) team.length());
+        for (int i = 0; i < team.length(); i++) {
+            buffer.put((byte) team.charAt(i));
+        }
+    }
+
+    private static boolean isAscii(String team) {
+        for (int i = 0; i < team.length(); i++) {
+            if (team.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes every complete frame of the file into the list.
+     *
+     * @return Length of the file up to the end of the last complete frame.
+     */
+    private static long readFrames(FileChannel channel, List<ScoreEvent> events) throws IOException {
+        final ByteBuffer file = readFully(channel);
+        final CRC32C checksum = new CRC32C();
+        int validLength = 0;
+
+        while (file.remaining() >= FRAME_HEADER_SIZE) {
+            final int payloadSize = file.getInt(validLength);
+            final int expectedChecksum = file.getInt(validLength + Integer.BYTES);
+            final int payloadStart = validLength + FRAME_HEADER_SIZE;
+
+            if (payloadSize <= 0 || payloadSize > file.limit() - payloadStart) {
+                break;
+            }
+
+            checksum.reset();
+            checksum.update(file.array(), payloadStart, payloadSize);
+            if ((int) checksum.getValue() != expectedChecksum) {
+                break;
+            }
+
+            file.position(payloadStart);
+            while (file.position() < payloadStart + payloadSize) {
+                events.add(decode(file));
+            }
+            validLength = payloadStart + payloadSize;
+        }
+        return validLength;
+    }
+
+    private static ScoreEvent decode(ByteBuffer buffer) {
+        final byte type = buffer.get();
+        final String homeTeam = decodeTeamName(buffer);
+        final String awayTeam = decodeTeamName(buffer);
+
+        return switch (type) {
+            case GAME_STARTED -> new ScoreEvent.GameStarted(homeTeam, awayTeam);
+            case SCORE_UPDATED -> new ScoreEvent.ScoreUpdated(homeTeam, awayTeam,
+                    Short.toUnsignedInt(buffer.getShort()), Short.toUnsignedInt(buffer.getShort()));
+            case SEQUENCED_SCORE_UPDATED -> new ScoreEvent.ScoreUpdated(homeTeam, awayTeam,
+                    Short.toUnsignedInt(buffer.getShort()), Short.toUnsignedInt(buffer.getShort()), buffer.getLong());
+            default -> new ScoreEvent.GameFinished(homeTeam, awayTeam);
+        };
+    }
+
+    private static String decodeTeamName(ByteBuffer buffer) {
+        final int length = Short.toUnsignedInt(buffer.getShort());
+        final String team = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return team;
+    }
+
+    /**
+     * Reads the checkpoint in the file, or returns {@code null} if the file is not a complete checkpoint.
+     */
+    private static Checkpoint readCheckpoint(Path file) throws IOException {
+        final ByteBuffer buffer;
+        try (FileChannel checkpointChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = readFully(checkpointChannel);
+        }
+
+        if (buffer.remaining() < Checkpoint.HEADER_SIZE + Integer.BYTES || buffer.getInt(0) != CHECKPOINT_MAGIC
+                || buffer.getInt(Integer.BYTES) != CHECKPOINT_FORMAT) {
+            return null;
+        }
+
+        final CRC32C checksum = new CRC32C();
+        checksum.update(buffer.array(), 0, buffer.limit() - Integer.BYTES);
+        if ((int) checksum.getValue() != buffer.getInt(buffer.limit() - Integer.BYTES)) {
+            return null;
+        }
+        return Checkpoint.decode(buffer);
+    }
+
+    private static ByteBuffer readFully(FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // Keep reading until the whole file is in the buffer
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * State of a board at the start of a segment: the whole team dictionary in ordinal order, so recovered games get
+     * the same IDs, the games in progress in start order, each as the ordinals of its teams, its packed score, the
+     * latest sequence number applied to it and its start time, and the archive of finished games in finish order,
+     * which also keeps their start and finish times.
+     *
+     * @param segment        First segment holding events after this state.
+     * @param teams          Team names, indexed by their registry ordinal.
+     * @param games          Per game in start order: home ordinal, away ordinal and
+     *                       {@code homeScore << 16 | awayScore}.
+     * @param gameSequences  Per game in start order: latest sequence number, or
+     *                       {@link ScoreEvent.ScoreUpdated#NO_SEQUENCE}.
+     * @param gameStartTimes Per game in start order: start time in epoch milliseconds.
+     * @param finishedGames  Per finished game in finish order, the same fields as {@code games}.
+     * @param finishedTimes  Per finished game in finish order: start and finish time in epoch milliseconds.
+     */
+    record Checkpoint(long segment, String[] teams, int[] games, long[] gameSequences, long[] gameStartTimes,
+                      int[] finishedGames, long[] finishedTimes) {
+
+        static final Checkpoint EMPTY = new Checkpoint(0L, new String[0], new int[0], new long[0], new long[0],
+                new int[0], new long[0]);
+
+        static final int GAME_FIELDS = 3;
+
+        static final int FINISHED_TIME_FIELDS = 2;
+
+        private static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES + 3 * Integer.BYTES;
+
+        int gameCount() {
+            return games.length / GAME_FIELDS;
+        }
+
+        int finishedGameCount() {
+            return finishedGames.length / GAME_FIELDS;
+        }
+
+        private int encodedSize() {
+            int size = HEADER_SIZE + (games.length + finishedGames.length) * Integer.BYTES
+                    + (gameSequences.length + gameStartTimes.length + finishedTimes.length) * Long.BYTES
+                    + Integer.BYTES;
+            for (String team : teams) {
+                size += teamNameSize(team);
+            }
+            return size;
+        }
+
+        private void encode(ByteBuffer buffer) {
+            buffer.putInt(CHECKPOINT_MAGIC);
+            buffer.putInt(CHECKPOINT_FORMAT);
+            buffer.putLong(segment);
+            buffer.putInt(teams.length);
+            buffer.putInt(gameCount());
+            buffer.putInt(finishedGameCount());
+            for (String team : teams) {
+                encodeTeamName(team, buffer);
+            }
+            for (int field : games) {
+                buffer.putInt(field);
+            }
+            for (long sequence : gameSequences) {
+                buffer.putLong(sequence);
+            }
+            for (long time : gameStartTimes) {
+                buffer.putLong(time);
+            }
+            for (int field : finishedGames) {
+                buffer.putInt(field);
+            }
+            for (long time : finishedTimes) {
+                buffer.putLong(time);
+            }
+
+            final int length = buffer.position();
+            final CRC32C checksum = new CRC32C();
+            checksum.update(buffer.duplicate().flip());
+            buffer.putInt(length, (int) checksum.getValue());
+        }
+
+        private static Checkpoint decode(ByteBuffer buffer) {
+            buffer.position(2 * Integer.BYTES);
+            final long segment = buffer.getLong();
+            final String[] teams = new String[buffer.getInt()];
+            final int[] games = new int[buffer.getInt() * GAME_FIELDS];
+            final long[] gameSequences = new long[games.length / GAME_FIELDS];
+            final long[] gameStartTimes = new long[gameSequences.length];
+            final int finishedGameCount = buffer.getInt();
+            final int[] finishedGames = new int[finishedGameCount * GAME_FIELDS];
+            final long[] finishedTimes = new long[finishedGameCount * FINISHED_TIME_FIELDS];
+
+            for (int i = 0; i < teams.length; i++) {
+                teams[i] = decodeTeamName(buffer);
+            }
+            for (int i = 0; i < games.length; i++) {
+                games[i] = buffer.getInt();
+            }
+            for (int i = 0; i < gameSequences.length; i++) {
+                gameSequences[i] = buffer.getLong();
+            }
+            for (int i = 0; i < gameStartTimes.length; i++) {
+                gameStartTimes[i] = buffer.getLong();
+            }
+            for (int i = 0; i < finishedGames.length; i++) {
+                finishedGames[i] = buffer.getInt();
+            }
+            for (int i = 0; i < finishedTimes.length; i++) {
+                finishedTimes[i] = buffer.getLong();
+            }
+            return new Checkpoint(segment, teams, games, gameSequences, gameStartTimes, finishedGames, finishedTimes);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package FootballWorldCupScoreboard;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes the events of a scoreboard to {@link Flow.Subscriber}s without ever waiting for them.
+ * <p>
+ * Every subscription has its own bounded buffer, drained on the executor as the subscriber requests events.
+ * Publishing only appends to those buffers, so a slow subscriber never slows down the scoreboard. A score update
+ * for a game that still has an undelivered update in the buffer replaces that update in place, so a subscriber
+ * that falls behind receives the latest score of each game instead of every intermediate one. Starts and
+ * finishes are never coalesced; a subscriber whose buffer fills up with them anyway is cancelled with
+ * {@link IllegalStateException} and can resubscribe and resynchronize from a snapshot.
+ */
+final class ScoreEventPublisher implements Flow.Publisher<ScoreEvent> {
+
+    static final int DEFAULT_BUFFER_CAPACITY = 1024;
+
+    private static final String OVERFLOW_ERROR = "Subscriber fell more than %d events behind.";
+
+    private static final String NON_POSITIVE_REQUEST_ERROR = "Requested number of events must be positive.";
+
+    private static final String BUFFER_CAPACITY_ERROR = "Buffer capacity must be positive.";
+
+    private final Executor executor;
+
+    private final CopyOnWriteArrayList<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    ScoreEventPublisher(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreEvent> subscriber) {
+        subscribe(subscriber, DEFAULT_BUFFER_CAPACITY);
+    }
+
+    void subscribe(Flow.Subscriber<? super ScoreEvent> subscriber, int bufferCapacity) {
+        if (bufferCapacity <= 0) {
+            throw new IllegalArgumentException(BUFFER_CAPACITY_ERROR);
+        }
+
+        final BufferedSubscription subscription = new BufferedSubscription(subscriber, bufferCapacity);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+
+    boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Hands the event to every subscription.
+     *
+     * @param gameId Identifier of the game the event belongs to, used to coalesce score updates of the same game.
+     */
+    void publish(long gameId, ScoreEvent event) {
+        for (BufferedSubscription subscription : subscriptions) {
+            subscription.offer(gameId, event);
+        }
+    }
+
+    /**
+     * Buffered event, mutable so that a newer score update of the same game can take its place.
+     */
+    private static final class PendingEvent {
+
+        private final long gameId;
+
+        private ScoreEvent event;
+
+        private PendingEvent(long gameId, ScoreEvent event) {
+            this.gameId = gameId;
+            this.event = event;
+        }
+    }
+
+    private final class BufferedSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super ScoreEvent> subscriber;
+
+        private final int bufferCapacity;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final ArrayDeque<PendingEvent> buffer = new ArrayDeque<>();
+
+        /**
+         * Buffered score update of each game, so the next update of the game can replace it.
+         */
+        private final Map<Long, PendingEvent> pendingUpdates = new HashMap<>();
+
+        private long demand;
+
+        private boolean draining;
+
+        private boolean cancelled;
+
+        private Throwable failure;
+
+        private BufferedSubscription(Flow.Subscriber<? super ScoreEvent> subscriber, int bufferCapacity) {
+            this.subscriber = subscriber;
+            this.bufferCapacity = bufferCapacity;
+        }
+
+        private void offer(long gameId, ScoreEvent event) {
+            lock.lock();
+            try {
+                if (cancelled) {
+                    return;
+                }
+
+                if (event instanceof ScoreEvent.ScoreUpdated) {
+                    final PendingEvent pendingUpdate = pendingUpdates.get(gameId);
+
+                    if (pendingUpdate != null) {
+                        pendingUpdate.event = event;
+                        return;
+                    }
+                }
+
+                if (buffer.size() == bufferCapacity) {
+                    failure = new IllegalStateException(String.format(OVERFLOW_ERROR, bufferCapacity));
+                    cancelLocked();
+                } else {
+                    final PendingEvent pendingEvent = new PendingEvent(gameId, event);
+                    buffer.add(pendingEvent);
+
+                    if (event instanceof ScoreEvent.ScoreUpdated) {
+                        pendingUpdates.put(gameId, pendingEvent);
+                    } else {
+                        pendingUpdates.remove(gameId);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (cancelled) {
+                    return;
+                }
+
+                if (n <= 0) {
+                    failure = new IllegalArgumentException(NON_POSITIVE_REQUEST_ERROR);
+                    cancelLocked();
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            } finally {
+                lock.unlock();
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelLocked();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void cancelLocked() {
+            cancelled = true;
+            buffer.clear();
+            pendingUpdates.clear();
+            subscriptions.remove(this);
+        }
+
+        private void scheduleDrain() {
+            lock.lock();
+            try {
+                if (draining || (failure == null && (demand == 0 || buffer.isEmpty()))) {
+                    return;
+                }
+                draining = true;
+            } finally {
+                lock.unlock();
+            }
+            executor.execute(this);
+        }
+
+        /**
+         * Delivers buffered events while there is demand. Only one drain runs at a time, which keeps the calls to
+         * the subscriber sequential.
+         */
+        @Override
+        public void run() {
+            while (true) {
+                final ScoreEvent event;
+                final Throwable error;
+
+                lock.lock();
+                try {
+                    error = failure;
+
+                    if (error != null) {
+                        failure = null;
+                        event = null;
+                    } else if (cancelled || demand == 0 || buffer.isEmpty()) {
+                        draining = false;
+                        return;
+                    } else {
+                        final PendingEvent pendingEvent = buffer.poll();
+                        pendingUpdates.remove(pendingEvent.gameId, pendingEvent);
+                        demand--;
+                        event = pendingEvent.event;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+
+                if (error != null) {
+                    subscriber.onError(error);
+                } else {
+                    subscriber.onNext(event);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package FootballWorldCupScoreboard;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * Case-insensitive dictionary that gives every registered team name a dense ordinal (0, 1, 2, ...).
+ * <p>
+ * Names are kept in an open-addressing table hashed on their case-folded characters, so looking up a team that is
+ * already registered neither normalizes nor copies the name and allocates nothing. The name stored for an ordinal
+ * is the spelling the team was first registered with.
+ * <p>
+ * One thread at a time may register teams while any number of threads look them up. A new team's name is written
+ * before its slot is published, and a full table is replaced by a doubled copy that is published whole, so readers
+ * never see a team half-registered and registering stays amortized O(1).
+ */
+public final class TeamRegistry {
+
+    public static final int UNKNOWN_TEAM = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    private volatile int size;
+
+    /**
+     * Returns the ordinal of the given team, or {@link #UNKNOWN_TEAM} if the team has never been registered.
+     */
+    public int ordinalOf(String name) {
+        if (name == null) {
+            return UNKNOWN_TEAM;
+        }
+
+        final Table current = table;
+        final int hash = hash(name);
+        final int mask = current.slots.length - 1;
+
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            final int entry = (int) SLOTS.getAcquire(current.slots, slot);
+
+            if (entry == 0) {
+                return UNKNOWN_TEAM;
+            }
+
+            final int ordinal = entry - 1;
+            if (current.hashes[ordinal] == hash && current.names[ordinal].equalsIgnoreCase(name)) {
+                return ordinal;
+            }
+        }
+    }
+
+    /**
+     * Returns the ordinal of the given team, registering it under the next free ordinal if it is new. Callers that
+     * share the registry between threads must not register from two threads at once.
+     */
+    public int register(String name) {
+        final int existing = ordinalOf(name);
+
+        if (existing != UNKNOWN_TEAM) {
+            return existing;
+        }
+
+        final int ordinal = size;
+        Table current = table;
+        if (ordinal == current.names.length) {
+            current = grow(current, ordinal);
+            table = current;
+        }
+
+        current.names[ordinal] = name;
+        current.hashes[ordinal] = hash(name);
+        size = ordinal + 1;
+        insert(current, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns the spelling stored for the ordinal, so that every game of the team can share one string instance.
+     * A different spelling of the same team is returned as it is.
+     */
+    public String intern(int ordinal, String name) {
+        final String registeredName = nameOf(ordinal);
+        return registeredName.equals(name) ? registeredName : name;
+    }
+
+    public String nameOf(int ordinal) {
+        if (ordinal < 0 || ordinal >= size) {
+            throw new IndexOutOfBoundsException(ordinal);
+        }
+        return table.names[ordinal];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the first {@code size} teams into a table of twice the capacity, which readers may use only once it
+     * is published.
+     */
+    private static Table grow(Table current, int size) {
+        final Table larger = new Table(Arrays.copyOf(current.names, size * 2), Arrays.copyOf(current.hashes, size * 2),
+                new int[current.slots.length * 2]);
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            insert(larger, ordinal);
+        }
+        return larger;
+    }
+
+    /**
+     * Publishes the ordinal's slot after its name and hash, so a reader that finds the slot also sees them.
+     */
+    private static void insert(Table table, int ordinal) {
+        final int mask = table.slots.length - 1;
+        int slot = table.hashes[ordinal] & mask;
+
+        while (table.slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        SLOTS.setRelease(table.slots, slot, ordinal + 1);
+    }
+
+    /**
+     * Hashes the name the same way for every spelling that {@link String#equalsIgnoreCase} treats as equal.
+     */
+    private static int hash(String name) {
+        int hash = 0;
+
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Names and hashes indexed by ordinal, and hash table slots holding {@code ordinal + 1}, with 0 marking an empty
+     * slot. The slots are kept at most half full.
+     */
+    private record Table(String[] names, int[] hashes, int[] slots) {
+
+        private Table(int capacity) {
+            this(new String[capacity], new int[capacity], new int[capacity * 2]);
+        }
+    }
+}
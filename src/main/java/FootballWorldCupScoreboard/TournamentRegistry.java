@@ -0,0 +1,207 @@
+package FootballWorldCupScoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static FootballWorldCupScoreboard.ScoreBoard.NEGATIVE_LIMIT_ERROR;
+
+/**
+ * Scoreboards of several tournaments played at the same time, such as the World Cup, its qualifiers and friendlies.
+ * <p>
+ * Tournaments are spread round-robin over a fixed number of shards, each with one thread that makes every change
+ * to the boards of its tournaments. A board therefore keeps the single writer it expects, boards of different
+ * shards are written in parallel, and callers never wait for a board to become free: changes are queued to the
+ * shard and complete a {@link CompletableFuture}.
+ * <p>
+ * Reads go to the boards' snapshots from the calling thread. Queries across tournaments merge the snapshots of all
+ * boards without stopping any shard; a board whose snapshot is out of date rebuilds it under its own lock only.
+ */
+public class TournamentRegistry implements AutoCloseable {
+
+    static final String TOURNAMENT_EXISTS_ERROR = "Tournament %s is already registered.";
+
+    static final String TOURNAMENT_NOT_FOUND_ERROR = "Tournament %s is not registered.";
+
+    private static final String SHARD_COUNT_ERROR = "Number of shards must be positive.";
+
+    /**
+     * Game of one tournament.
+     */
+    public record TournamentGame(String tournament, ScoreBoardSnapshot.GameScore game) {
+    }
+
+    /**
+     * Board of a tournament, the shard that writes it and its position in registration order, which breaks ties
+     * between games of different tournaments.
+     */
+    private record Tournament(String name, ScoreBoard board, ExecutorService shard, int order) {
+    }
+
+    private final ExecutorService[] shards;
+
+    private final Map<String, Tournament> tournaments = new ConcurrentHashMap<>();
+
+    private int registeredTournaments;
+
+    public TournamentRegistry() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public TournamentRegistry(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException(SHARD_COUNT_ERROR);
+        }
+
+        shards = new ExecutorService[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            final String threadName = "scoreboard-shard-" + shard;
+            shards[shard] = Executors.newSingleThreadExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Creates an empty board for the tournament on the next shard.
+     *
+     * @throws IllegalArgumentException if the tournament is already registered.
+     */
+    public synchronized void addTournament(String tournament) {
+        if (tournaments.containsKey(tournament)) {
+            throw new IllegalArgumentException(String.format(TOURNAMENT_EXISTS_ERROR, tournament));
+        }
+
+        final int order = registeredTournaments++;
+        tournaments.put(tournament, new Tournament(tournament, new ScoreBoard(), shards[order % shards.length], order));
+    }
+
+    public CompletableFuture<ScoreBoardStatus> startGame(String tournament, String homeTeam, String awayTeam) {
+        return submit(tournament, board -> board.tryStartGame(homeTeam, awayTeam));
+    }
+
+    public CompletableFuture<ScoreBoardStatus> updateScore(String tournament, String homeTeam, String awayTeam,
+                                                           int homeScore, int awayScore) {
+        return submit(tournament, board -> board.tryUpdateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    public CompletableFuture<ScoreBoardStatus> finishGame(String tournament, String homeTeam, String awayTeam) {
+        return submit(tournament, board -> board.tryFinishGame(homeTeam, awayTeam));
+    }
+
+    /**
+     * Runs the operation on the tournament's board on the board's shard, after the changes queued before it. Changes
+     * of one tournament are applied in the order they are submitted.
+     *
+     * @return Future completed with the result of the operation, or exceptionally with what it threw.
+     * @throws IllegalArgumentException if the tournament is not registered.
+     */
+    public <T> CompletableFuture<T> submit(String tournament, Function<ScoreBoard, T> operation) {
+        final Tournament registered = tournamentOf(tournament);
+        return CompletableFuture.supplyAsync(() -> operation.apply(registered.board()), registered.shard());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the tournament is not registered.
+     */
+    public ScoreBoardSnapshot getSnapshot(String tournament) {
+        return tournamentOf(tournament).board().getSnapshot();
+    }
+
+    /**
+     * Returns the {@code n} games with the highest total score across all tournaments. Ties are broken by each
+     * board's own summary order within a tournament, and by registration order between tournaments.
+     * <p>
+     * Every board's snapshot is already in summary order, so the boards are merged through a heap holding the next
+     * game of each board, and at most {@code n} games of each board are visited.
+     */
+    public List<TournamentGame> getTopByTotalScore(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(NEGATIVE_LIMIT_ERROR);
+        }
+
+        final PriorityQueue<Cursor> heads = new PriorityQueue<>();
+        for (Tournament tournament : tournaments.values()) {
+            final List<ScoreBoardSnapshot.GameScore> games = tournament.board().getSnapshot().games();
+
+            if (!games.isEmpty()) {
+                heads.add(new Cursor(tournament, games));
+            }
+        }
+
+        final List<TournamentGame> topGames = new ArrayList<>(n);
+        while (topGames.size() < n && !heads.isEmpty()) {
+            final Cursor head = heads.poll();
+            topGames.add(new TournamentGame(head.tournament.name(), head.games.get(head.position)));
+
+            if (++head.position < head.games.size()) {
+                heads.add(head);
+            }
+        }
+        return List.copyOf(topGames);
+    }
+
+    /**
+     * Stops the shards once the changes already submitted are applied.
+     */
+    @Override
+    public void close() {
+        for (ExecutorService shard : shards) {
+            shard.shutdown();
+        }
+
+        try {
+            for (ExecutorService shard : shards) {
+                shard.awaitTermination(1, TimeUnit.MINUTES);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Tournament tournamentOf(String tournament) {
+        final Tournament registered = tournaments.get(tournament);
+
+        if (registered == null) {
+            throw new IllegalArgumentException(String.format(TOURNAMENT_NOT_FOUND_ERROR, tournament));
+        }
+        return registered;
+    }
+
+    /**
+     * Position of the merge in the snapshot of one board, ordered by the game at that position.
+     */
+    private static final class Cursor implements Comparable<Cursor> {
+
+        private final Tournament tournament;
+
+        private final List<ScoreBoardSnapshot.GameScore> games;
+
+        private int position;
+
+        private Cursor(Tournament tournament, List<ScoreBoardSnapshot.GameScore> games) {
+            this.tournament = tournament;
+            this.games = games;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            final int totalScore = games.get(position).totalScore();
+            final int otherTotalScore = other.games.get(other.position).totalScore();
+
+            if (totalScore != otherTotalScore) {
+                return Integer.compare(otherTotalScore, totalScore);
+            }
+            return Integer.compare(tournament.order(), other.tournament.order());
+        }
+    }
+}
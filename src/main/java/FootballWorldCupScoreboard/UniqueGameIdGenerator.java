@@ -1,41 +1,45 @@
 package FootballWorldCupScoreboard;
 
-import java.util.Arrays;
-
 /**
  * This class provides a utility method for generating a unique identifier for a football game
- * based on the names of the home and away teams.
+ * based on the ordinals the home and away teams have in a {@link TeamRegistry}.
  */
 public class UniqueGameIdGenerator {
 
     /**
-     * Generates a unique identifier for a football match based on the home and away teams.
-     * <p>
-     * The identifier is created by concatenating the numeric values corresponding to each
-     * letter of the team names. Each letter is converted to its alphabetical position
-     * (A=1, B=2, ..., Z=26).
+     * Identifier returned when at least one of the teams is unknown. No game can have it.
+     */
+    public static final long NO_GAME_ID = -1L;
+
+    /**
+     * Generates a unique identifier for a football match based on the home and away team ordinals.
      * <p>
-     * To ensure that the identifier remains the same regardless of the order of the teams,
-     * the home and away teams are sorted alphabetically before generating the identifier.
-     * This guarantees that "POLANDITALY" and "ITALYPOLAND" will have the same unique ID.
+     * The identifier packs the smaller ordinal into the upper 32 bits and the XOR of both ordinals into the lower
+     * 32 bits of a long. Ordering the ordinals makes the identifier the same regardless of the order of the teams, so
+     * "POLAND"-"ITALY" and "ITALY"-"POLAND" have the same unique ID. Both ordinals can be recovered from it, so two
+     * different pairs of teams can never share an identifier, and generating it allocates nothing. The XOR makes the
+     * identifier's {@link Long#hashCode()} equal to the larger ordinal, which differs for every game in progress;
+     * packing the larger ordinal itself would give every game between consecutively registered teams the same hash.
      *
-     * @param homeTeam The name of the home team.
-     * @param awayTeam The name of the away team.
-     * @return A string representing the unique identifier for the match, based on the team names.
+     * @param homeTeamOrdinal The registry ordinal of the home team.
+     * @param awayTeamOrdinal The registry ordinal of the away team.
+     * @return The unique identifier for the match, or {@link #NO_GAME_ID} if either ordinal is negative.
      */
-    public static String generateUniqueGameId(String homeTeam, String awayTeam) {
-        final String[] teams = {homeTeam == null ? "" : homeTeam.toUpperCase(),
-                awayTeam == null ? "" : awayTeam.toUpperCase()};
-        Arrays.sort(teams);
-        final String combinedTeams = teams[0] + teams[1];
-        final StringBuilder idBuilder = new StringBuilder();
-
-        for (char c : combinedTeams.toCharArray()) {
-            if (Character.isLetter(c)) {
-                int number = Character.toUpperCase(c) - 'A' + 1;
-                idBuilder.append(number);
-            }
+    public static long generateUniqueGameId(int homeTeamOrdinal, int awayTeamOrdinal) {
+        if (homeTeamOrdinal < 0 || awayTeamOrdinal < 0) {
+            return NO_GAME_ID;
         }
-        return idBuilder.toString().trim();
+
+        final int lowerOrdinal = Math.min(homeTeamOrdinal, awayTeamOrdinal);
+        final int higherOrdinal = Math.max(homeTeamOrdinal, awayTeamOrdinal);
+        return ((long) lowerOrdinal << 32) | (lowerOrdinal ^ higherOrdinal);
+    }
+
+    /**
+     * Returns the smaller of the two ordinals packed into the identifier, or a negative value for
+     * {@link #NO_GAME_ID}.
+     */
+    static int lowerOrdinalOf(long gameId) {
+        return (int) (gameId >> 32);
     }
 }
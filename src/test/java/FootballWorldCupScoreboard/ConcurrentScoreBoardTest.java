@@ -0,0 +1,404 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentScoreBoardTest {
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final String ITALY = "Italy";
+
+    private static final String GERMANY = "Germany";
+
+    private static final String FRANCE = "France";
+
+    private static final String GAME_EXISTS_ERROR = "A game between these teams already exists.";
+
+    private static final String TEAM_BUSY_ERROR = "%s team is already playing another game.";
+
+    private static final String GAME_NOT_FOUND_ERROR = "Game not found.";
+
+    private static final int THREADS = 8;
+
+    private ConcurrentScoreBoard scoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new ConcurrentScoreBoard();
+    }
+
+    @Test
+    public void shouldStartUpdateAndFinishGame() {
+        // when
+        // Start game and update its score with switched teams
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(SPAIN, POLAND, 2, 1);
+
+        // then
+        // Game should be on the board with updated score
+        final Game game = scoreBoard.getGames().find(SPAIN, POLAND).orElseThrow();
+        assertSame(game, scoreBoard.getGames().findById(game.gameId).orElseThrow());
+        assertEquals(2, game.getHomeScore());
+        assertEquals(1, game.getAwayScore());
+
+        // when
+        // Finish game
+        scoreBoard.finishGame(POLAND, SPAIN);
+
+        // then
+        // Board should be empty and further updates should fail
+        assertTrue(scoreBoard.getGames().isEmpty());
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.updateScore(POLAND, SPAIN, 3, 1)
+        );
+        assertEquals(GAME_NOT_FOUND_ERROR, exception.getMessage());
+    }
+
+    @Test
+    public void shouldNotFindGameForTheSameTeamTwice() {
+        // given
+        // Started game
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when + then
+        // Game of a team against itself should not be found
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore(POLAND, POLAND, 1, 0));
+    }
+
+    @Test
+    public void shouldReturnSummarySortedByTotalScore() {
+        // given
+        // Started games with updated scores
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 1);
+        scoreBoard.startGame(GERMANY, FRANCE);
+        scoreBoard.updateScore(GERMANY, FRANCE, 1, 1);
+        scoreBoard.startGame(ITALY, "Brazil");
+        scoreBoard.updateScore(ITALY, "Brazil", 3, 0);
+
+        // when
+        final List<Game> summary = scoreBoard.getSummaryByTotalScore();
+
+        // then
+        // Highest total first, most recently started first on ties
+        assertEquals(ITALY, summary.get(0).getHomeTeam());
+        assertEquals(GERMANY, summary.get(1).getHomeTeam());
+        assertEquals(POLAND, summary.get(2).getHomeTeam());
+    }
+
+    @Test
+    public void shouldStartOnlyOneGameWhenThreadsRaceForTheSameTeam() throws Exception {
+        // given
+        // Every thread wants POLAND against its own opponent
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger busy = new AtomicInteger();
+
+        // when
+        runConcurrently(THREADS, thread -> {
+            try {
+                scoreBoard.startGame(POLAND, team(thread));
+                started.incrementAndGet();
+            } catch (IllegalArgumentException exception) {
+                assertEquals(String.format(TEAM_BUSY_ERROR, POLAND), exception.getMessage());
+                busy.incrementAndGet();
+            }
+        });
+
+        // then
+        // Exactly one game should have been started
+        assertEquals(1, started.get());
+        assertEquals(THREADS - 1, busy.get());
+        assertEquals(1, scoreBoard.getGames().size());
+    }
+
+    @Test
+    public void shouldStartDuplicateGameOnlyOnceWhenThreadsRace() throws Exception {
+        // given
+        // Threads start the same game, half of them with switched teams
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger duplicates = new AtomicInteger();
+
+        // when
+        runConcurrently(THREADS, thread -> {
+            try {
+                if (thread % 2 == 0) {
+                    scoreBoard.startGame(POLAND, SPAIN);
+                } else {
+                    scoreBoard.startGame(SPAIN, POLAND);
+                }
+                started.incrementAndGet();
+            } catch (IllegalArgumentException exception) {
+                assertEquals(GAME_EXISTS_ERROR, exception.getMessage());
+                duplicates.incrementAndGet();
+            }
+        });
+
+        // then
+        // Exactly one game should have been started
+        assertEquals(1, started.get());
+        assertEquals(THREADS - 1, duplicates.get());
+        assertEquals(1, scoreBoard.getGames().size());
+    }
+
+    @Test
+    public void shouldKeepBusyTeamAndDuplicateGameInvariantsUnderRandomChurn() throws Exception {
+        // given
+        // A small pool of teams so that threads constantly collide
+        final int teams = 10;
+        final int operationsPerThread = 20_000;
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger finished = new AtomicInteger();
+
+        // when
+        // Threads randomly start, update and finish games between teams of the pool
+        runConcurrently(THREADS, thread -> {
+            final Random random = new Random(thread);
+
+            for (int i = 0; i < operationsPerThread; i++) {
+                final String homeTeam = team(random.nextInt(teams));
+                final String awayTeam = team(random.nextInt(teams));
+
+                if (homeTeam.equals(awayTeam)) {
+                    continue;
+                }
+
+                try {
+                    switch (random.nextInt(3)) {
+                        case 0 -> {
+                            scoreBoard.startGame(homeTeam, awayTeam);
+                            started.incrementAndGet();
+                        }
+                        case 1 -> scoreBoard.updateScore(homeTeam, awayTeam, random.nextInt(5), random.nextInt(5));
+                        default -> {
+                            scoreBoard.finishGame(homeTeam, awayTeam);
+                            finished.incrementAndGet();
+                        }
+                    }
+                } catch (IllegalArgumentException expected) {
+                    // Busy team, duplicate or missing game: the board rejected the operation
+                }
+            }
+        });
+
+        // then
+        // Every team should play at most one game and the board should hold exactly the games not finished
+        final Set<String> busyTeams = new HashSet<>();
+        for (Game game : scoreBoard.getGames()) {
+            assertTrue(busyTeams.add(game.getHomeTeam().toUpperCase()), game.getHomeTeam() + " plays twice");
+            assertTrue(busyTeams.add(game.getAwayTeam().toUpperCase()), game.getAwayTeam() + " plays twice");
+        }
+        assertEquals(started.get() - finished.get(), scoreBoard.getGames().size());
+        assertEquals(scoreBoard.getGames().size(), scoreBoard.getSummaryByTotalScore().size());
+    }
+
+    @Test
+    public void shouldApplyEveryUpdateWhenThreadsUpdateDifferentGames() throws Exception {
+        // given
+        // One game per thread
+        final int updatesPerThread = 10_000;
+        for (int thread = 0; thread < THREADS; thread++) {
+            scoreBoard.startGame(team(2 * thread), team(2 * thread + 1));
+        }
+
+        // when
+        // Every thread updates its own game while summaries are read
+        runConcurrently(THREADS + 1, thread -> {
+            if (thread == THREADS) {
+                for (int i = 0; i < updatesPerThread / 10; i++) {
+                    assertEquals(THREADS, scoreBoard.getSummaryByTotalScore().size());
+                }
+                return;
+            }
+
+            for (int goals = 1; goals <= updatesPerThread; goals++) {
+                scoreBoard.updateScore(team(2 * thread), team(2 * thread + 1), goals, thread);
+            }
+        });
+
+        // then
+        // Every game should hold the last score written for it
+        for (Game game : scoreBoard.getGames()) {
+            assertEquals(updatesPerThread, game.getHomeScore());
+        }
+    }
+
+    @Test
+    public void shouldReadEveryGameOfSnapshotAtTheSameInstant() throws Exception {
+        // given
+        // Games that a writer brings to the same score one after the other, in start order
+        final int gameCount = 100;
+        final int goals = 2_000;
+        for (int game = 0; game < gameCount; game++) {
+            scoreBoard.startGame(team(2 * game), team(2 * game + 1));
+        }
+
+        // when
+        runConcurrently(2, thread -> {
+            if (thread == 0) {
+                for (int score = 1; score <= goals; score++) {
+                    for (int game = 0; game < gameCount; game++) {
+                        scoreBoard.updateScore(team(2 * game), team(2 * game + 1), score, 0);
+                    }
+                }
+                return;
+            }
+
+            long previousVersion = 0;
+            for (int i = 0; i < goals; i++) {
+                final ScoreBoardSnapshot snapshot = scoreBoard.getSnapshot();
+                final int[] scores = new int[gameCount];
+                for (ScoreBoardSnapshot.GameScore game : snapshot.games()) {
+                    scores[gameOf(game.homeTeam())] = game.homeScore();
+                }
+
+                // then
+                // Games should never be ahead of a game started before them, nor more than one update behind
+                for (int game = 1; game < gameCount; game++) {
+                    assertTrue(scores[game] == scores[0] || scores[game] == scores[0] - 1,
+                            "Game " + game + " at " + scores[game] + " with first game at " + scores[0]);
+                    assertTrue(scores[game] <= scores[game - 1]);
+                }
+                assertTrue(snapshot.version() >= previousVersion);
+                previousVersion = snapshot.version();
+            }
+        });
+
+        // then
+        // Once the writer stops, the snapshot should be current and shared until the next change
+        final ScoreBoardSnapshot snapshot = scoreBoard.getSnapshot();
+        assertEquals(gameCount, snapshot.games().size());
+        assertEquals(new ScoreBoardSnapshot.GameScore(team(2 * gameCount - 2), team(2 * gameCount - 1), goals, 0),
+                snapshot.games().get(0));
+        assertSame(snapshot, scoreBoard.getSnapshot());
+        assertEquals(team(2 * gameCount - 2), scoreBoard.getSummaryByTotalScore().get(0).getHomeTeam());
+    }
+
+    @Test
+    public void shouldNeverRollScoreBackWhenRedundantFeedsRace() throws Exception {
+        // given
+        // Two feeds sending the same numbered updates of one game, read by a third thread
+        final int updates = 20_000;
+        scoreBoard.startGame(POLAND, SPAIN);
+        final Game game = scoreBoard.getGames().find(POLAND, SPAIN).orElseThrow();
+        final AtomicInteger applied = new AtomicInteger();
+
+        // when
+        runConcurrently(3, thread -> {
+            if (thread == 2) {
+                int previousScore = 0;
+                for (int i = 0; i < updates; i++) {
+                    final int score = game.getHomeScore();
+                    assertTrue(score >= previousScore);
+                    previousScore = score;
+                }
+                return;
+            }
+
+            for (int sequence = 1; sequence <= updates; sequence++) {
+                if (scoreBoard.tryUpdateScore(POLAND, SPAIN, sequence, sequence, 0) == ScoreBoardStatus.OK) {
+                    applied.incrementAndGet();
+                }
+            }
+        });
+
+        // then
+        // Every update should be applied by one of the feeds at most, and the last one should win
+        assertTrue(applied.get() <= updates);
+        assertEquals(updates, game.getHomeScore());
+        assertEquals(ScoreBoardStatus.STALE_UPDATE, scoreBoard.tryUpdateScore(POLAND, SPAIN, 1, 1, 0));
+        assertEquals(ScoreBoardStatus.INVALID_SCORE, scoreBoard.tryUpdateScore(POLAND, SPAIN, updates + 1, -1, 0));
+        assertEquals(ScoreBoardStatus.GAME_NOT_FOUND, scoreBoard.tryUpdateScore(ITALY, SPAIN, 1, 1, 0));
+    }
+
+    /**
+     * Returns the position in start order of the game whose home team is {@code team(2 * position)}.
+     */
+    private static int gameOf(String homeTeam) {
+        return ((homeTeam.charAt(4) - 'A') * 26 + homeTeam.charAt(5) - 'A') / 2;
+    }
+
+    private static String team(int index) {
+        return "Team" + (char) ('A' + index / 26) + (char) ('A' + index % 26);
+    }
+
+    /**
+     * Runs the task on the given number of threads, releasing them at the same moment, and rethrows the first
+     * failure of any of them.
+     */
+    private static void runConcurrently(int threads, IntConsumer task) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch startGate = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int thread = 0; thread < threads; thread++) {
+                final int threadIndex = thread;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    task.accept(threadIndex);
+                    return null;
+                }));
+            }
+            startGate.countDown();
+
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException exception) {
+                    if (exception.getCause() instanceof Error error) {
+                        throw error;
+                    }
+                    throw exception;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReturnTopGamesWithSummaryOrder() {
+        // given
+        // Started games with updated scores, two of them level
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 1);
+        scoreBoard.startGame(GERMANY, FRANCE);
+        scoreBoard.updateScore(GERMANY, FRANCE, 0, 1);
+        scoreBoard.startGame(ITALY, "Brazil");
+        scoreBoard.updateScore(ITALY, "Brazil", 2, 0);
+
+        // when
+        final List<Game> topTwo = scoreBoard.getTopByTotalScore(2);
+        final List<Game> all = scoreBoard.getTopByTotalScore(10);
+
+        // then
+        // Should return the first games of the summary, most recently started first on ties
+        assertEquals(2, topTwo.size());
+        assertEquals(ITALY, topTwo.get(0).getHomeTeam());
+        assertEquals(POLAND, topTwo.get(1).getHomeTeam());
+        assertEquals(scoreBoard.getSummaryByTotalScore(), all);
+        assertTrue(scoreBoard.getTopByTotalScore(0).isEmpty());
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenTopLimitIsNegative() {
+        // when + then
+        // Should throw exception with correct message
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.getTopByTotalScore(-1)
+        );
+        assertEquals("Number of games cannot be negative.", exception.getMessage());
+    }
+}
@@ -0,0 +1,178 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FinishedGamesArchiveTest {
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final String ITALY = "Italy";
+
+    private static final String FRANCE = "France";
+
+    private static final Instant KICK_OFF = Instant.parse("2026-06-11T18:00:00Z");
+
+    private MutableClock clock;
+
+    private ScoreBoard scoreBoard;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new MutableClock(KICK_OFF);
+        scoreBoard = new ScoreBoard(Runnable::run, clock);
+    }
+
+    @Test
+    public void shouldArchiveFinishedGameWithFinalScoreAndTimes() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 2, 1);
+        clock.advance(Duration.ofMinutes(95));
+
+        // when
+        scoreBoard.finishGame(POLAND, SPAIN);
+
+        // then
+        final FinishedGamesArchive archive = scoreBoard.getArchive();
+        assertEquals(1, archive.size());
+        assertEquals(new FinishedGamesArchive.FinishedGame(POLAND, SPAIN, 2, 1, KICK_OFF,
+                KICK_OFF.plus(Duration.ofMinutes(95))), archive.get(0));
+        assertTrue(scoreBoard.getGames().isEmpty());
+    }
+
+    @Test
+    public void shouldNotArchiveGamesInProgress() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when
+        final FinishedGamesArchive archive = scoreBoard.getArchive();
+
+        // then
+        assertEquals(0, archive.size());
+        assertTrue(archive.getResultsOf(POLAND).isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> archive.get(0));
+    }
+
+    @Test
+    public void shouldReturnResultsOfTeamAtHomeAndAway() {
+        // given
+        playGame(POLAND, SPAIN, 1, 0);
+        playGame(ITALY, FRANCE, 2, 2);
+        playGame(FRANCE, POLAND, 3, 1);
+
+        // when
+        final List<FinishedGamesArchive.FinishedGame> results = scoreBoard.getArchive().getResultsOf("poland");
+
+        // then
+        assertEquals(2, results.size());
+        assertEquals(SPAIN, results.get(0).awayTeam());
+        assertEquals(1, results.get(0).homeScore());
+        assertEquals(FRANCE, results.get(1).homeTeam());
+        assertEquals(4, results.get(1).totalScore());
+        assertTrue(scoreBoard.getArchive().getResultsOf("Brazil").isEmpty());
+    }
+
+    @Test
+    public void shouldSumGoalsOfGamesFinishedInTimeRange() {
+        // given
+        playGame(POLAND, SPAIN, 1, 0);
+        clock.advance(Duration.ofDays(1));
+        playGame(ITALY, FRANCE, 2, 2);
+        playGame(POLAND, FRANCE, 3, 1);
+        clock.advance(Duration.ofDays(1));
+        playGame(ITALY, SPAIN, 0, 5);
+        final Instant secondDay = KICK_OFF.plus(Duration.ofDays(1));
+
+        // when
+        final long goals = scoreBoard.getArchive().getTotalGoals(secondDay, secondDay.plus(Duration.ofDays(1)));
+
+        // then
+        assertEquals(8, goals);
+        assertEquals(14, scoreBoard.getArchive().getTotalGoals(Instant.EPOCH, Instant.MAX));
+        assertEquals(0, scoreBoard.getArchive().getTotalGoals(secondDay, secondDay));
+    }
+
+    @Test
+    public void shouldThrowExceptionForInvertedTimeRange() {
+        // given
+        final FinishedGamesArchive archive = scoreBoard.getArchive();
+
+        // when
+        final Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> archive.getTotalGoals(KICK_OFF, KICK_OFF.minusSeconds(1)));
+
+        // then
+        assertEquals("Start of the time range cannot be after its end.", exception.getMessage());
+    }
+
+    @Test
+    public void shouldKeepFinishTimesInOrderWhenClockGoesBack() {
+        // given
+        clock.advance(Duration.ofHours(2));
+        playGame(POLAND, SPAIN, 1, 0);
+        clock.advance(Duration.ofHours(-1));
+
+        // when
+        playGame(ITALY, FRANCE, 2, 0);
+
+        // then
+        final FinishedGamesArchive archive = scoreBoard.getArchive();
+        assertEquals(archive.get(0).finishTime(), archive.get(1).finishTime());
+        assertEquals(3, archive.getTotalGoals(KICK_OFF.plus(Duration.ofHours(2)), Instant.MAX));
+    }
+
+    @Test
+    public void shouldScanGamesSpilledToMappedFiles(@TempDir Path directory) {
+        // given
+        final int games = 2 * FinishedGamesArchive.CHUNK_SIZE + 10;
+        final FinishedGamesArchive archive = scoreBoard.getArchive();
+        for (int game = 0; game < FinishedGamesArchive.CHUNK_SIZE; game++) {
+            playGame(POLAND, SPAIN, game % 3, 1);
+        }
+
+        // when
+        archive.spillTo(directory);
+        for (int game = FinishedGamesArchive.CHUNK_SIZE; game < games; game++) {
+            clock.advance(Duration.ofMinutes(1));
+            playGame(game % 2 == 0 ? ITALY : POLAND, FRANCE, game % 3, 1);
+        }
+
+        // then
+        assertEquals(games, archive.size());
+        assertEquals(new FinishedGamesArchive.FinishedGame(POLAND, SPAIN, 2, 1, KICK_OFF, KICK_OFF), archive.get(2));
+        final FinishedGamesArchive.FinishedGame last = archive.get(games - 1);
+        assertEquals(POLAND, last.homeTeam());
+        assertEquals((games - 1) % 3, last.homeScore());
+        assertEquals(FinishedGamesArchive.CHUNK_SIZE + (games - FinishedGamesArchive.CHUNK_SIZE) / 2,
+                archive.getResultsOf(POLAND).size());
+        assertEquals(games - FinishedGamesArchive.CHUNK_SIZE, archive.getResultsOf(FRANCE).size());
+        assertEquals(totalGoals(FinishedGamesArchive.CHUNK_SIZE, games),
+                archive.getTotalGoals(KICK_OFF.plusSeconds(1), Instant.MAX));
+    }
+
+    private void playGame(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        scoreBoard.startGame(homeTeam, awayTeam);
+        scoreBoard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        scoreBoard.finishGame(homeTeam, awayTeam);
+    }
+
+    private static long totalGoals(int firstGame, int lastGame) {
+        long goals = 0L;
+        for (int game = firstGame; game < lastGame; game++) {
+            goals += game % 3 + 1;
+        }
+        return goals;
+    }
+}
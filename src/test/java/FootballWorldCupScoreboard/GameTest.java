@@ -2,8 +2,9 @@ package FootballWorldCupScoreboard;
 
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 public class GameTest {
 
@@ -17,6 +18,8 @@ public class GameTest {
 
     private static final String NEGATIVE_SCORE_ERROR_MESSAGE = "Scores cannot be negative.";
 
+    private static final String TOO_HIGH_SCORE_ERROR_MESSAGE = "Scores cannot be higher than 65535.";
+
     private static final String POLAND = "Poland";
 
     private static final String SPAIN = "Spain";
@@ -141,6 +144,20 @@ public class GameTest {
         assertEquals(TOO_LONG_NAME_ERROR_MESSAGE, exception.getMessage());
     }
 
+    @Test
+    void shouldMeasureTeamNameLengthWithoutSurroundingWhitespace() {
+        // given
+        // Name of maximum length surrounded by whitespace
+        final String paddedName = "  " + "A".repeat(35) + "\t ";
+
+        // when
+        final Game game = new Game(paddedName, SPAIN);
+
+        // then
+        // Game should be created
+        assertEquals(paddedName, game.getHomeTeam());
+    }
+
     @Test
     void shouldUpdateScoreProperly() {
         // given
@@ -190,4 +207,108 @@ public class GameTest {
         );
         assertEquals(NEGATIVE_SCORE_ERROR_MESSAGE, exception.getMessage());
     }
+
+    @Test
+    void shouldThrowExceptionWhenScoreIsTooHigh() {
+        // given
+        // New Game object
+        final Game game = new Game(POLAND, SPAIN);
+
+        // when
+        // Update score above the highest supported score
+        // then
+        // Should throw IllegalArgumentException with correct message
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> game.updateScore(65536, 0)
+        );
+        assertEquals(TOO_HIGH_SCORE_ERROR_MESSAGE, exception.getMessage());
+    }
+
+    @Test
+    void shouldIncreaseVersionWithEveryScoreUpdate() {
+        // given
+        // New Game object
+        final Game game = new Game(POLAND, SPAIN);
+
+        // when
+        // Update score twice
+        game.updateScore(1, 0);
+        game.updateScore(1, 1);
+
+        // then
+        // Snapshot should hold both scores and the version
+        assertEquals(new Game.Score(1, 1, 2), game.getScore());
+        assertEquals(2, game.getVersion());
+    }
+
+    @Test
+    void shouldUpdateScoreOnlyWhenExpectedScoreMatches() {
+        // given
+        // Game with score 1-0
+        final Game game = new Game(POLAND, SPAIN);
+        game.updateScore(1, 0);
+
+        // when
+        // Apply an update expecting 0-0 and then one expecting 1-0
+        final boolean staleApplied = game.compareAndSetScore(0, 0, 0, 1);
+        final boolean currentApplied = game.compareAndSetScore(1, 0, 2, 0);
+
+        // then
+        // Only the update expecting the current score should be applied
+        assertFalse(staleApplied);
+        assertTrue(currentApplied);
+        assertEquals(new Game.Score(2, 0, 2), game.getScore());
+    }
+
+    @Test
+    void shouldDropDuplicateAndOutOfOrderSequencedUpdates() {
+        // given
+        // Game updated by the message with sequence number 2
+        final Game game = new Game(POLAND, SPAIN);
+        game.updateScoreIfNewer(2, 1, 0);
+
+        // when
+        // The same message again, an older one and a newer one
+        final boolean duplicateApplied = game.updateScoreIfNewer(2, 1, 0);
+        final boolean olderApplied = game.updateScoreIfNewer(1, 0, 0);
+        final boolean newerApplied = game.updateScoreIfNewer(5, 1, 1);
+
+        // then
+        // Only the newer message should be applied
+        assertFalse(duplicateApplied);
+        assertFalse(olderApplied);
+        assertTrue(newerApplied);
+        assertEquals(new Game.Score(1, 1, 2), game.getScore());
+        assertThrows(IllegalArgumentException.class, () -> game.updateScoreIfNewer(6, -1, 0));
+    }
+
+    @Test
+    void shouldNeverExposeTornScoreToConcurrentReader() throws InterruptedException {
+        // given
+        // Game updated by a writer thread with equal home and away scores
+        final Game game = new Game(POLAND, SPAIN);
+        final AtomicBoolean torn = new AtomicBoolean();
+        final Thread writer = new Thread(() -> {
+            for (int goals = 0; goals < 200_000; goals++) {
+                game.updateScore(goals & Game.MAX_SCORE, goals & Game.MAX_SCORE);
+            }
+        });
+
+        // when
+        // Read snapshots while the writer runs
+        writer.start();
+        while (writer.isAlive()) {
+            final Game.Score score = game.getScore();
+            if (score.homeScore() != score.awayScore()) {
+                torn.set(true);
+            }
+        }
+        writer.join();
+
+        // then
+        // Both scores of every snapshot should come from the same update
+        assertFalse(torn.get());
+        assertEquals(200_000, game.getVersion());
+    }
 }
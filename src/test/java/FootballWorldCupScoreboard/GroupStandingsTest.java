@@ -0,0 +1,192 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupStandingsTest {
+
+    private static final String GROUP_A = "A";
+
+    private static final String GROUP_B = "B";
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final String ITALY = "Italy";
+
+    private static final String FRANCE = "France";
+
+    private static final String BRAZIL = "Brazil";
+
+    private static final String GERMANY = "Germany";
+
+    private ScoreBoard scoreBoard;
+
+    @BeforeEach
+    public void setUp() {
+        scoreBoard = new ScoreBoard(Runnable::run);
+        scoreBoard.addGroup(GROUP_A, List.of(POLAND, SPAIN, ITALY, FRANCE));
+    }
+
+    @Test
+    public void shouldListTeamsAlphabeticallyBeforeAnyGame() {
+        // when
+        final List<GroupStandings.Standing> table = scoreBoard.getStandings().getTable(GROUP_A);
+
+        // then
+        assertEquals(List.of(FRANCE, ITALY, POLAND, SPAIN), teamsOf(table));
+        assertEquals(new GroupStandings.Standing(FRANCE, 0, 0, 0, 0, 0, 0, 0), table.get(0));
+    }
+
+    @Test
+    public void shouldCountGameInProgressAsDrawWhenItStarts() {
+        // when
+        scoreBoard.startGame(SPAIN, POLAND);
+
+        // then
+        final List<GroupStandings.Standing> table = scoreBoard.getStandings().getTable(GROUP_A);
+        assertEquals(List.of(POLAND, SPAIN, FRANCE, ITALY), teamsOf(table));
+        assertEquals(new GroupStandings.Standing(POLAND, 1, 0, 1, 0, 0, 0, 1), table.get(0));
+    }
+
+    @Test
+    public void shouldMoveRowsAsGoalsGoIn() {
+        // given
+        scoreBoard.startGame(SPAIN, POLAND);
+        scoreBoard.startGame(ITALY, FRANCE);
+
+        // when
+        scoreBoard.updateScore(SPAIN, POLAND, 0, 1);
+        scoreBoard.updateScore(ITALY, FRANCE, 2, 0);
+        scoreBoard.updateScore(SPAIN, POLAND, 1, 1);
+
+        // then
+        final List<GroupStandings.Standing> table = scoreBoard.getStandings().getTable(GROUP_A);
+        assertEquals(List.of(ITALY, POLAND, SPAIN, FRANCE), teamsOf(table));
+        assertEquals(new GroupStandings.Standing(ITALY, 1, 1, 0, 0, 2, 0, 3), table.get(0));
+        assertEquals(new GroupStandings.Standing(POLAND, 1, 0, 1, 0, 1, 1, 1), table.get(1));
+        assertEquals(new GroupStandings.Standing(FRANCE, 1, 0, 0, 1, 0, 2, 0), table.get(3));
+        assertEquals(-2, table.get(3).goalDifference());
+    }
+
+    @Test
+    public void shouldKeepFinalResultAfterGameIsFinished() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 3, 1);
+        scoreBoard.finishGame(POLAND, SPAIN);
+
+        // when
+        scoreBoard.startGame(SPAIN, POLAND);
+        scoreBoard.updateScore(SPAIN, POLAND, 1, 0);
+
+        // then
+        final List<GroupStandings.Standing> table = scoreBoard.getStandings().getTable(GROUP_A);
+        assertEquals(new GroupStandings.Standing(POLAND, 2, 1, 0, 1, 3, 2, 3), table.get(0));
+        assertEquals(new GroupStandings.Standing(SPAIN, 2, 1, 0, 1, 2, 3, 3), table.get(1));
+    }
+
+    @Test
+    public void shouldOrderByGoalDifferenceThenGoalsScored() {
+        // given
+        scoreBoard.applyAll(List.of(
+                new ScoreEvent.GameStarted(POLAND, SPAIN),
+                new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 3, 2),
+                new ScoreEvent.GameStarted(ITALY, FRANCE),
+                new ScoreEvent.ScoreUpdated(ITALY, FRANCE, 1, 0)));
+
+        // when
+        final List<GroupStandings.Standing> table = scoreBoard.getStandings().getTable(GROUP_A);
+
+        // then
+        assertEquals(List.of(POLAND, ITALY, SPAIN, FRANCE), teamsOf(table));
+    }
+
+    @Test
+    public void shouldIgnoreGamesBetweenTeamsOfDifferentGroups() {
+        // given
+        scoreBoard.addGroup(GROUP_B, List.of(BRAZIL, GERMANY));
+
+        // when
+        scoreBoard.startGame(POLAND, BRAZIL);
+        scoreBoard.updateScore(POLAND, BRAZIL, 5, 0);
+        scoreBoard.startGame(ITALY, GERMANY.toLowerCase());
+
+        // then
+        assertTrue(scoreBoard.getStandings().getTable(GROUP_A).stream().allMatch(standing -> standing.played() == 0));
+        assertTrue(scoreBoard.getStandings().getTable(GROUP_B).stream().allMatch(standing -> standing.played() == 0));
+    }
+
+    @Test
+    public void shouldCountFinishedAndLiveGamesPlayedBeforeGroupIsAdded() {
+        // given
+        scoreBoard.startGame(BRAZIL, GERMANY);
+        scoreBoard.updateScore(BRAZIL, GERMANY, 1, 7);
+        scoreBoard.finishGame(BRAZIL, GERMANY);
+        scoreBoard.startGame(GERMANY, BRAZIL);
+        scoreBoard.updateScore(GERMANY, BRAZIL, 0, 2);
+
+        // when
+        scoreBoard.addGroup(GROUP_B, List.of("brazil", GERMANY));
+
+        // then
+        final List<GroupStandings.Standing> table = scoreBoard.getStandings().getTable(GROUP_B);
+        assertEquals(new GroupStandings.Standing(GERMANY, 2, 1, 0, 1, 7, 3, 3), table.get(0));
+        assertEquals(new GroupStandings.Standing(BRAZIL, 2, 1, 0, 1, 3, 7, 3), table.get(1));
+
+        // and when
+        scoreBoard.updateScore(GERMANY, BRAZIL, 0, 3);
+
+        // then
+        assertEquals(new GroupStandings.Standing(GERMANY, 2, 1, 0, 1, 7, 4, 3),
+                scoreBoard.getStandings().getTable(GROUP_B).get(0));
+    }
+
+    @Test
+    public void shouldReturnSamePublishedTableUntilGroupChanges() {
+        // given
+        scoreBoard.addGroup(GROUP_B, List.of(BRAZIL, GERMANY));
+        final List<GroupStandings.Standing> table = scoreBoard.getStandings().getTable(GROUP_A);
+
+        // when
+        scoreBoard.startGame(BRAZIL, GERMANY);
+
+        // then
+        assertSame(table, scoreBoard.getStandings().getTable(GROUP_A));
+        assertThrows(UnsupportedOperationException.class, () -> table.remove(0));
+    }
+
+    @Test
+    public void shouldRejectInvalidGroups() {
+        // when
+        final Exception existingGroup = assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.addGroup(GROUP_A, List.of(BRAZIL, GERMANY)));
+        final Exception teamInGroup = assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.addGroup(GROUP_B, List.of(BRAZIL, "poland")));
+        final Exception repeatedTeam = assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.addGroup(GROUP_B, List.of(BRAZIL, "brazil")));
+        final Exception singleTeam = assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.addGroup(GROUP_B, List.of(BRAZIL)));
+        final Exception invalidName = assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.addGroup(GROUP_B, List.of(BRAZIL, "Germany2")));
+        final Exception unknownGroup = assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.getStandings().getTable(GROUP_B));
+
+        // then
+        assertEquals("Group A is already registered.", existingGroup.getMessage());
+        assertEquals("poland team is already in group A.", teamInGroup.getMessage());
+        assertEquals("brazil team is already in group B.", repeatedTeam.getMessage());
+        assertEquals("A group needs at least two teams.", singleTeam.getMessage());
+        assertEquals(ScoreBoard.TEAM_NAME_ERROR, invalidName.getMessage());
+        assertEquals("Group B is not registered.", unknownGroup.getMessage());
+    }
+
+    private static List<String> teamsOf(List<GroupStandings.Standing> table) {
+        return table.stream().map(GroupStandings.Standing::team).toList();
+    }
+}
@@ -0,0 +1,62 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldReportPercentilesWithinBucketPrecision() {
+        // given
+        // Latencies from 1 to 100000 nanoseconds
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+
+        // when + then
+        // Every percentile should be at most one bucket width above the exact value
+        assertEquals(100_000, histogram.count());
+        assertEquals(100_000, histogram.max());
+        assertWithinPrecision(50_000, histogram.valueAtPercentile(50.0));
+        assertWithinPrecision(99_000, histogram.valueAtPercentile(99.0));
+        assertWithinPrecision(99_900, histogram.valueAtPercentile(99.9));
+        assertEquals(1, histogram.valueAtPercentile(0.0));
+        assertEquals(100_000, histogram.valueAtPercentile(100.0));
+    }
+
+    @Test
+    public void shouldGiveEveryValueExactlyOneBucket() {
+        // given
+        long previousHighestValue = -1;
+
+        for (int bucket = 0; bucket <= LatencyHistogram.bucketOf(Long.MAX_VALUE); bucket++) {
+            // when
+            final long highestValue = LatencyHistogram.highestValueOf(bucket);
+
+            // then
+            // Buckets should follow each other without gaps
+            assertEquals(bucket, LatencyHistogram.bucketOf(previousHighestValue + 1));
+            assertEquals(bucket, LatencyHistogram.bucketOf(highestValue));
+            previousHighestValue = highestValue;
+        }
+        assertEquals(Long.MAX_VALUE, previousHighestValue);
+    }
+
+    @Test
+    public void shouldReportZeroWhenEmptyAndRejectInvalidPercentile() {
+        // given
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // when + then
+        assertEquals(0, histogram.valueAtPercentile(99.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(Double.NaN));
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / LatencyHistogram.SUB_BUCKETS,
+                () -> "Expected about " + expected + " but was " + actual);
+    }
+}
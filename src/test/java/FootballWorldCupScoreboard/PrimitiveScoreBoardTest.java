@@ -0,0 +1,189 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveScoreBoardTest {
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final String ITALY = "Italy";
+
+    private static final String FRANCE = "France";
+
+    private static final String MEXICO = "Mexico";
+
+    private static final String CANADA = "Canada";
+
+    private static final String GAME_EXISTS_ERROR = "A game between these teams already exists.";
+
+    private static final String TEAM_BUSY_ERROR = "%s team is already playing another game.";
+
+    private static final String GAME_NOT_FOUND_ERROR = "Game not found.";
+
+    private PrimitiveScoreBoard scoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new PrimitiveScoreBoard();
+    }
+
+    @Test
+    public void shouldStartUpdateAndFinishGame() {
+        // when
+        // Start game and update its score with switched teams
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(SPAIN, POLAND, 2, 1);
+
+        // then
+        // Game should be in the summary with updated score
+        assertEquals(List.of(new ScoreBoardSnapshot.GameScore(POLAND, SPAIN, 2, 1)),
+                scoreBoard.getSummaryByTotalScore());
+        assertNotEquals(UniqueGameIdGenerator.NO_GAME_ID, scoreBoard.getGameId(POLAND, SPAIN));
+
+        // when
+        scoreBoard.finishGame(POLAND, SPAIN);
+
+        // then
+        // Board should be empty and further updates should fail
+        assertTrue(scoreBoard.getSummaryByTotalScore().isEmpty());
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.updateScore(POLAND, SPAIN, 3, 1)
+        );
+        assertEquals(GAME_NOT_FOUND_ERROR, exception.getMessage());
+    }
+
+    @Test
+    public void shouldRejectDuplicateGamesBusyTeamsAndGamesOfTeamAgainstItself() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when + then
+        assertEquals(GAME_EXISTS_ERROR, assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.startGame("spain", POLAND)).getMessage());
+        assertEquals(String.format(TEAM_BUSY_ERROR, POLAND), assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.startGame(POLAND, ITALY)).getMessage());
+        assertEquals(GAME_NOT_FOUND_ERROR, assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.updateScore(POLAND, POLAND, 1, 0)).getMessage());
+    }
+
+    @Test
+    public void shouldKeepStartOrderTieBreakAcrossCompaction() {
+        // given
+        // Games with equal scores, most of them finished so that the rows are compacted
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.startGame(ITALY, FRANCE);
+        scoreBoard.startGame(MEXICO, CANADA);
+        for (int i = 0; i < 10; i++) {
+            scoreBoard.startGame("Team" + (char) ('A' + i), "Rival" + (char) ('A' + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            scoreBoard.finishGame("Team" + (char) ('A' + i), "Rival" + (char) ('A' + i));
+        }
+
+        // when
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+        final List<ScoreBoardSnapshot.GameScore> topTwo = scoreBoard.getTopByTotalScore(2);
+        final List<ScoreBoardSnapshot.GameScore> summary = scoreBoard.getSummaryByTotalScore();
+
+        // then
+        // Highest score first, then the most recently started game first
+        assertEquals(List.of(POLAND, MEXICO, ITALY), summary.stream().map(ScoreBoardSnapshot.GameScore::homeTeam)
+                .toList());
+        assertEquals(summary.subList(0, 2), topTwo);
+        assertEquals(topTwo, scoreBoard.getTopByTotalScore(2));
+    }
+
+    @Test
+    public void shouldCompareAndSetScore() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when + then
+        assertTrue(scoreBoard.compareAndSetScore(POLAND, SPAIN, 0, 0, 1, 0));
+        assertFalse(scoreBoard.compareAndSetScore(POLAND, SPAIN, 0, 0, 2, 0));
+        assertEquals(1, scoreBoard.getSummaryByTotalScore().get(0).homeScore());
+    }
+
+    @Test
+    public void shouldNotMatchExpectedScoreOutOfRange() {
+        // given
+        // Game at 1-0, which packs like an expected 0-65536
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+
+        // when + then
+        // Expected scores out of range should never match, as on ScoreBoard
+        final ScoreBoard expected = new ScoreBoard(Runnable::run);
+        expected.startGame(POLAND, SPAIN);
+        expected.updateScore(POLAND, SPAIN, 1, 0);
+        assertFalse(expected.compareAndSetScore(POLAND, SPAIN, 0, 65536, 2, 0));
+        assertFalse(scoreBoard.compareAndSetScore(POLAND, SPAIN, 0, 65536, 2, 0));
+        assertFalse(scoreBoard.compareAndSetScore(POLAND, SPAIN, -1, 0, 2, 0));
+        assertEquals(1, scoreBoard.getSummaryByTotalScore().get(0).homeScore());
+    }
+
+    @Test
+    public void shouldBehaveLikeScoreBoardUnderRandomChanges() {
+        // given
+        // Both boards receiving the same random operations on a small pool of teams
+        final ScoreBoard expected = new ScoreBoard(Runnable::run);
+        final Random random = new Random(7);
+        final List<String> teams = List.of(POLAND, SPAIN, ITALY, FRANCE, MEXICO, CANADA, "Brazil", "Germany");
+
+        for (int operation = 0; operation < 5000; operation++) {
+            final String homeTeam = teams.get(random.nextInt(teams.size()));
+            final String awayTeam = teams.get(random.nextInt(teams.size()));
+            final int homeScore = random.nextInt(4);
+            final int awayScore = random.nextInt(4);
+            final int kind = random.nextInt(4);
+
+            // when
+            final String expectedError = errorOf(() -> apply(kind, expected, homeTeam, awayTeam, homeScore, awayScore));
+            final String actualError = errorOf(() -> apply(kind, scoreBoard, homeTeam, awayTeam, homeScore, awayScore));
+
+            // then
+            // Both boards should accept or reject the operation the same way and hold the same summary
+            final List<ScoreBoardSnapshot.GameScore> expectedSummary = expected.getSnapshot().games();
+            assertEquals(expectedError, actualError);
+            assertEquals(expectedSummary.subList(0, Math.min(3, expectedSummary.size())),
+                    scoreBoard.getTopByTotalScore(3));
+            assertEquals(expectedSummary, scoreBoard.getSnapshot().games());
+        }
+    }
+
+    private static void apply(int kind, ScoreBoard scoreBoard, String homeTeam, String awayTeam, int homeScore,
+                              int awayScore) {
+        switch (kind) {
+            case 0 -> scoreBoard.startGame(homeTeam, awayTeam);
+            case 1 -> scoreBoard.finishGame(homeTeam, awayTeam);
+            default -> scoreBoard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+
+    private static void apply(int kind, PrimitiveScoreBoard scoreBoard, String homeTeam, String awayTeam,
+                              int homeScore, int awayScore) {
+        switch (kind) {
+            case 0 -> scoreBoard.startGame(homeTeam, awayTeam);
+            case 1 -> scoreBoard.finishGame(homeTeam, awayTeam);
+            default -> scoreBoard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        }
+    }
+
+    private static String errorOf(Runnable operation) {
+        try {
+            operation.run();
+            return null;
+        } catch (IllegalArgumentException exception) {
+            return exception.getMessage();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreBoardDeltaTest {
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final String ITALY = "Italy";
+
+    private static final String FRANCE = "France";
+
+    private static final String MEXICO = "Mexico";
+
+    private static final String CANADA = "Canada";
+
+    private static final String BRAZIL = "Brazil";
+
+    private static final String GERMANY = "Germany";
+
+    private final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run);
+
+    @Test
+    public void shouldReportInsertedRemovedAndRescoredGames() {
+        // given
+        // Client holding the summary with two games
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.startGame(ITALY, FRANCE);
+        scoreBoard.updateScore(ITALY, FRANCE, 1, 0);
+        final long clientVersion = scoreBoard.getSnapshot().version();
+
+        // when
+        // One game is finished, another one started and the remaining one scores without changing its place
+        scoreBoard.finishGame(POLAND, SPAIN);
+        scoreBoard.startGame(MEXICO, CANADA);
+        scoreBoard.updateScore(ITALY, FRANCE, 2, 0);
+        final ScoreBoardDelta delta = scoreBoard.getChangesSince(clientVersion);
+
+        // then
+        // Delta should describe exactly these changes
+        assertFalse(delta.full());
+        assertEquals(clientVersion, delta.fromVersion());
+        assertEquals(scoreBoard.getSnapshot().version(), delta.toVersion());
+        assertEquals(List.of(new ScoreBoardDelta.RankedGameScore(1,
+                new ScoreBoardSnapshot.GameScore(MEXICO, CANADA, 0, 0))), delta.inserted());
+        assertEquals(List.of(new ScoreBoardSnapshot.GameScore(POLAND, SPAIN, 0, 0)), delta.removed());
+        assertEquals(List.of(new ScoreBoardSnapshot.GameScore(ITALY, FRANCE, 2, 0)), delta.rescored());
+        assertTrue(delta.moved().isEmpty());
+    }
+
+    @Test
+    public void shouldMoveOnlyGamesThatChangedRelativeOrder() {
+        // given
+        // Client holding the summary with four games without goals
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.startGame(ITALY, FRANCE);
+        scoreBoard.startGame(MEXICO, CANADA);
+        scoreBoard.startGame(BRAZIL, GERMANY);
+        final long clientVersion = scoreBoard.getSnapshot().version();
+
+        // when
+        // The last game of the summary scores and goes to the top
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+        final ScoreBoardDelta delta = scoreBoard.getChangesSince(clientVersion);
+
+        // then
+        // Only that game should move, the others keep their relative order
+        assertEquals(List.of(new ScoreBoardDelta.RankedGameScore(0,
+                new ScoreBoardSnapshot.GameScore(POLAND, SPAIN, 1, 0))), delta.moved());
+        assertTrue(delta.inserted().isEmpty());
+        assertTrue(delta.removed().isEmpty());
+        assertTrue(delta.rescored().isEmpty());
+    }
+
+    @Test
+    public void shouldReturnEmptyDeltaForCurrentVersion() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+        final long currentVersion = scoreBoard.getSnapshot().version();
+
+        // when
+        final ScoreBoardDelta delta = scoreBoard.getChangesSince(currentVersion);
+
+        // then
+        assertTrue(delta.isEmpty());
+        assertSame(delta, scoreBoard.getChangesSince(currentVersion));
+    }
+
+    @Test
+    public void shouldFallBackToFullSummaryWhenVersionIsTooOld() {
+        // given
+        // Client version that was pushed out of the history by later snapshots
+        scoreBoard.startGame(POLAND, SPAIN);
+        final long clientVersion = scoreBoard.getSnapshot().version();
+        for (int goals = 1; goals <= ScoreBoard.SNAPSHOT_HISTORY_SIZE; goals++) {
+            scoreBoard.updateScore(POLAND, SPAIN, goals, 0);
+            scoreBoard.getSnapshot();
+        }
+
+        // when
+        final ScoreBoardDelta delta = scoreBoard.getChangesSince(clientVersion);
+
+        // then
+        // Delta should carry the whole current summary
+        assertTrue(delta.full());
+        assertEquals(List.of(new ScoreBoardDelta.RankedGameScore(0, new ScoreBoardSnapshot.GameScore(POLAND, SPAIN,
+                ScoreBoard.SNAPSHOT_HISTORY_SIZE, 0))), delta.inserted());
+        assertTrue(scoreBoard.getChangesSince(Long.MAX_VALUE).full());
+        assertSame(delta, scoreBoard.getChangesSince(Long.MAX_VALUE));
+        assertSame(delta, scoreBoard.getChangesSince(-42L));
+    }
+
+    @Test
+    public void shouldReproduceCurrentSummaryWhenAppliedToClientSummary() {
+        // given
+        // Board changing randomly while a client follows it through deltas from old versions
+        final Random random = new Random(42);
+        final List<String> teams = List.of(POLAND, SPAIN, ITALY, FRANCE, MEXICO, CANADA, BRAZIL, GERMANY);
+        ScoreBoardSnapshot clientSnapshot = scoreBoard.getSnapshot();
+
+        for (int round = 0; round < 500; round++) {
+            for (int change = 0; change < 1 + random.nextInt(4); change++) {
+                final String homeTeam = teams.get(random.nextInt(teams.size()));
+                final String awayTeam = teams.get(random.nextInt(teams.size()));
+
+                try {
+                    switch (random.nextInt(4)) {
+                        case 0 -> scoreBoard.startGame(homeTeam, awayTeam);
+                        case 1 -> scoreBoard.finishGame(homeTeam, awayTeam);
+                        default -> scoreBoard.updateScore(homeTeam, awayTeam, random.nextInt(5), random.nextInt(5));
+                    }
+                } catch (IllegalArgumentException rejected) {
+                    // Busy team, duplicate or missing game
+                }
+            }
+
+            // when
+            final ScoreBoardDelta delta = scoreBoard.getChangesSince(clientSnapshot.version());
+
+            // then
+            // Applying the delta should give the current summary
+            final List<ScoreBoardSnapshot.GameScore> clientGames = apply(clientSnapshot.games(), delta);
+            assertEquals(scoreBoard.getSnapshot().games(), clientGames);
+            clientSnapshot = new ScoreBoardSnapshot(delta.toVersion(), clientGames);
+        }
+    }
+
+    private static List<ScoreBoardSnapshot.GameScore> apply(List<ScoreBoardSnapshot.GameScore> games,
+                                                            ScoreBoardDelta delta) {
+        final List<ScoreBoardSnapshot.GameScore> result = new ArrayList<>(delta.full() ? List.of() : games);
+        result.removeIf(game -> delta.removed().stream().anyMatch(removed -> sameGame(removed, game))
+                || delta.moved().stream().anyMatch(moved -> sameGame(moved.game(), game)));
+        result.replaceAll(game -> delta.rescored().stream()
+                .filter(rescored -> sameGame(rescored, game)).findFirst().orElse(game));
+
+        final List<ScoreBoardDelta.RankedGameScore> placed = new ArrayList<>(delta.inserted());
+        placed.addAll(delta.moved());
+        placed.sort(Comparator.comparingInt(ScoreBoardDelta.RankedGameScore::rank));
+        for (ScoreBoardDelta.RankedGameScore rankedGame : placed) {
+            result.add(rankedGame.rank(), rankedGame.game());
+        }
+        return result;
+    }
+
+    private static boolean sameGame(ScoreBoardSnapshot.GameScore first, ScoreBoardSnapshot.GameScore second) {
+        return first.homeTeam().equals(second.homeTeam()) && first.awayTeam().equals(second.awayTeam());
+    }
+}
@@ -0,0 +1,143 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreBoardMetricsTest {
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final String ITALY = "Italy";
+
+    private static final String FRANCE = "France";
+
+    private ScoreBoard scoreBoard;
+
+    @BeforeEach
+    void setUp() {
+        scoreBoard = new ScoreBoard(Runnable::run);
+    }
+
+    @Test
+    public void shouldCountOperationsErrorsAndActiveGames() {
+        // given
+        final ScoreBoardMetrics metrics = scoreBoard.enableMetrics();
+
+        // when
+        // Successful operations and one rejection of each kind
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+        scoreBoard.getSummaryByTotalScore();
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGame(SPAIN, POLAND));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGame(POLAND, ITALY));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGame("It@ly", FRANCE));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore(ITALY, FRANCE, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore(POLAND, SPAIN, -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.applyAll(List.of(
+                new ScoreEvent.GameStarted(ITALY, FRANCE),
+                new ScoreEvent.GameFinished(FRANCE, POLAND)
+        )));
+
+        // then
+        // Every call should be timed and every rejection counted by its reason
+        assertEquals(4, metrics.operationCount(ScoreBoardMetrics.Operation.START_GAME));
+        assertEquals(3, metrics.operationCount(ScoreBoardMetrics.Operation.UPDATE_SCORE));
+        assertEquals(1, metrics.operationCount(ScoreBoardMetrics.Operation.GET_SUMMARY));
+        assertEquals(1, metrics.operationCount(ScoreBoardMetrics.Operation.APPLY_ALL));
+        assertEquals(1, metrics.errorCount(ScoreBoardStatus.GAME_EXISTS));
+        assertEquals(1, metrics.errorCount(ScoreBoardStatus.TEAM_BUSY));
+        assertEquals(1, metrics.errorCount(ScoreBoardStatus.INVALID_TEAM_NAME));
+        assertEquals(2, metrics.errorCount(ScoreBoardStatus.GAME_NOT_FOUND));
+        assertEquals(1, metrics.errorCount(ScoreBoardStatus.INVALID_SCORE));
+        assertEquals(1, metrics.getActiveGames());
+        assertTrue(metrics.latency(ScoreBoardMetrics.Operation.START_GAME).max() > 0);
+    }
+
+    @Test
+    public void shouldCountEveryRejectedFixture() {
+        // given
+        final ScoreBoardMetrics metrics = scoreBoard.enableMetrics();
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGames(List.of(
+                new Fixture(POLAND, ITALY),
+                new Fixture(SPAIN, FRANCE)
+        )));
+
+        // then
+        assertEquals(1, metrics.operationCount(ScoreBoardMetrics.Operation.START_GAMES));
+        assertEquals(2, metrics.errorCount(ScoreBoardStatus.TEAM_BUSY));
+    }
+
+    @Test
+    public void shouldCountTeamAndScoreChecksOfGameByTheirStatus() {
+        // given
+        final ScoreBoardMetrics metrics = scoreBoard.enableMetrics();
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when
+        // Rejections thrown by the checks of Game, directly and within batches
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGame(ITALY, ITALY));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGames(List.of(
+                new Fixture(ITALY, "F".repeat(36)))));
+        assertThrows(IllegalArgumentException.class,
+                () -> scoreBoard.compareAndSetScore(POLAND, SPAIN, 0, 0, Game.MAX_SCORE + 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.applyAll(List.of(
+                new ScoreEvent.ScoreUpdated(POLAND, SPAIN, -1, 0))));
+
+        // then
+        assertEquals(2, metrics.errorCount(ScoreBoardStatus.INVALID_TEAM_NAME));
+        assertEquals(2, metrics.errorCount(ScoreBoardStatus.INVALID_SCORE));
+        assertEquals(0, metrics.errorCount(ScoreBoardStatus.GAME_NOT_FOUND));
+    }
+
+    @Test
+    public void shouldKeepSameMetricsAndStartFromCurrentBoard() {
+        // given
+        // Game started before metrics are enabled
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when
+        final ScoreBoardMetrics metrics = scoreBoard.enableMetrics();
+
+        // then
+        assertSame(metrics, scoreBoard.enableMetrics());
+        assertEquals(1, metrics.getActiveGames());
+        assertEquals(0, metrics.operationCount(ScoreBoardMetrics.Operation.START_GAME));
+    }
+
+    @Test
+    public void shouldPublishMetricsOverJmx() throws Exception {
+        // given
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("FootballWorldCupScoreboard:type=ScoreBoard,name=metricsTest");
+        server.registerMBean(scoreBoard.enableMetrics(), name);
+
+        try {
+            // when
+            scoreBoard.startGame(POLAND, SPAIN);
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.finishGame(ITALY, FRANCE));
+
+            // then
+            // Attributes should be readable as open types
+            assertEquals(1, server.getAttribute(name, "ActiveGames"));
+            final TabularData errorCounts = (TabularData) server.getAttribute(name, "ErrorCounts");
+            assertEquals(1L, errorCounts.get(new Object[]{ScoreBoardStatus.GAME_NOT_FOUND.name()}).get("value"));
+            final TabularData operationCounts = (TabularData) server.getAttribute(name, "OperationCounts");
+            assertEquals(1L, operationCounts.get(new Object[]{"START_GAME"}).get("value"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
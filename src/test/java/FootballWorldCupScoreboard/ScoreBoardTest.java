@@ -3,8 +3,12 @@ package FootballWorldCupScoreboard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.LinkedHashMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -56,13 +60,13 @@ public class ScoreBoardTest {
 
         // and
         // Generate the expected game ID
-        final String expectedGameId = UniqueGameIdGenerator.generateUniqueGameId(POLAND, SPAIN);
+        final long expectedGameId = scoreBoard.getGameId(POLAND, SPAIN);
 
 
         // then
-        // Get the map of games from the scoreboard
-        final LinkedHashMap<String, Game> games = scoreBoard.getGames();
-        final Game game = games.get(expectedGameId);
+        // Get the view of games from the scoreboard
+        final GamesView games = scoreBoard.getGames();
+        final Game game = games.findById(expectedGameId).orElse(null);
 
         assertNotNull(game);
         assertEquals(1, games.size());
@@ -182,7 +186,7 @@ public class ScoreBoardTest {
 
         // then
         // Game should be deleted
-        final LinkedHashMap<String, Game> games = scoreBoard.getGames();
+        final GamesView games = scoreBoard.getGames();
         assertEquals(0, games.size());
     }
 
@@ -211,9 +215,9 @@ public class ScoreBoardTest {
 
         // then
         // Should finish one game properly
-        final LinkedHashMap<String, Game> games = scoreBoard.getGames();
+        final GamesView games = scoreBoard.getGames();
         assertEquals(1, games.size());
-        assertTrue(games.containsKey(UniqueGameIdGenerator.generateUniqueGameId(ITALY, FRANCE)));
+        assertTrue(games.find(ITALY, FRANCE).isPresent());
     }
 
     @Test
@@ -228,7 +232,7 @@ public class ScoreBoardTest {
 
         // Then
         // Should finish game properly
-        final LinkedHashMap<String, Game> games = scoreBoard.getGames();
+        final GamesView games = scoreBoard.getGames();
         assertEquals(0, games.size());
     }
 
@@ -243,7 +247,7 @@ public class ScoreBoardTest {
         scoreBoard.updateScore(POLAND, SPAIN, 3, 2);
 
         // then
-        final Game game = scoreBoard.getGames().get(UniqueGameIdGenerator.generateUniqueGameId(POLAND, SPAIN));
+        final Game game = scoreBoard.getGames().find(POLAND, SPAIN).orElseThrow();
         assertEquals(3, game.getHomeScore());
         assertEquals(2, game.getAwayScore());
     }
@@ -286,7 +290,7 @@ public class ScoreBoardTest {
 
         // then
         // Should update properly
-        final Game game = scoreBoard.getGames().get(UniqueGameIdGenerator.generateUniqueGameId(POLAND, SPAIN));
+        final Game game = scoreBoard.getGames().find(POLAND, SPAIN).orElseThrow();
         assertEquals(2, game.getHomeScore());
         assertEquals(3, game.getAwayScore());
     }
@@ -567,4 +571,643 @@ public class ScoreBoardTest {
         assertEquals(2, summary.get(3).getHomeScore());
         assertEquals(2, summary.get(3).getAwayScore());
     }
+
+    @Test
+    public void shouldMoveGameInSummaryWhenItsScoreChanges() {
+        // given
+        // Started games, the newer one leading
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.startGame(GERMANY, FRANCE);
+        scoreBoard.updateScore(GERMANY, FRANCE, 1, 0);
+
+        // when
+        // Older game overtakes and then gets level again
+        scoreBoard.updateScore(POLAND, SPAIN, 2, 0);
+        final List<Game> overtaken = scoreBoard.getSummaryByTotalScore();
+        scoreBoard.updateScore(GERMANY, FRANCE, 1, 1);
+        final List<Game> levelled = scoreBoard.getSummaryByTotalScore();
+
+        // then
+        // Summary should follow every change, most recently started game first on ties
+        assertEquals(POLAND, overtaken.get(0).getHomeTeam());
+        assertEquals(GERMANY, overtaken.get(1).getHomeTeam());
+        assertEquals(GERMANY, levelled.get(0).getHomeTeam());
+        assertEquals(POLAND, levelled.get(1).getHomeTeam());
+    }
+
+    @Test
+    public void shouldReuseSummaryUntilScoreBoardChanges() {
+        // given
+        // Started game
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when
+        // Read summary twice, then change the score
+        final List<Game> first = scoreBoard.getSummaryByTotalScore();
+        final List<Game> second = scoreBoard.getSummaryByTotalScore();
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+        final List<Game> afterUpdate = scoreBoard.getSummaryByTotalScore();
+
+        // then
+        // Unchanged board should not rebuild the summary and the summary should be read-only
+        assertSame(first, second);
+        assertNotSame(first, afterUpdate);
+        assertThrows(UnsupportedOperationException.class, () -> afterUpdate.remove(0));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenBusyTeamIsWrittenInDifferentCase() {
+        // when
+        // Start new game
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // and
+        // Try to start game with busy team written in upper case
+        // then
+        // Should exception with expected message
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.startGame(ITALY, SPAIN.toUpperCase())
+        );
+
+        assertEquals(String.format(TEAM_BUSY_ERROR, SPAIN.toUpperCase()), exception.getMessage());
+    }
+
+    @Test
+    public void shouldAllowTeamsToPlayAgainAfterGameIsFinished() {
+        // given
+        // Finished game
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.finishGame(SPAIN, POLAND);
+
+        // when
+        // Both teams start new games
+        scoreBoard.startGame(POLAND, ITALY);
+        scoreBoard.startGame(FRANCE, SPAIN);
+
+        // then
+        // Both games should be on the board
+        assertEquals(2, scoreBoard.getGames().size());
+    }
+
+    @Test
+    public void shouldKeepGamesApartWhenTeamNamesWouldCollideAsLetterPositions() {
+        // given
+        // "AB"+"C" and "L"+"C" both spell 1-2-3 as letter positions
+        scoreBoard.startGame("Ab", "C");
+        scoreBoard.finishGame("Ab", "C");
+        scoreBoard.startGame("L", "C");
+
+        // when
+        // Update the game that is still running
+        scoreBoard.updateScore("L", "C", 1, 0);
+
+        // then
+        // Only that game should be on the board and the finished one should not be found
+        assertEquals(1, scoreBoard.getGames().size());
+        assertNotEquals(scoreBoard.getGameId("Ab", "C"), scoreBoard.getGameId("L", "C"));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore("Ab", "C", 1, 0));
+    }
+
+    @Test
+    public void shouldRejectScoreUpdateExpectingOutdatedScore() {
+        // given
+        // Started game with updated score
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.startGame(GERMANY, FRANCE);
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+
+        // when
+        // Late message expecting 0-0 and current message expecting 1-0
+        final boolean staleApplied = scoreBoard.compareAndSetScore(POLAND, SPAIN, 0, 0, 0, 1);
+        final boolean currentApplied = scoreBoard.compareAndSetScore(GERMANY, FRANCE, 0, 0, 3, 0);
+
+        // then
+        // Only current message should be applied and summary should follow it
+        assertFalse(staleApplied);
+        assertTrue(currentApplied);
+        assertEquals(GERMANY, scoreBoard.getSummaryByTotalScore().get(0).getHomeTeam());
+        assertEquals(1, scoreBoard.getSummaryByTotalScore().get(1).getHomeScore());
+    }
+
+    @Test
+    public void shouldApplyAllEventsOfBatchInOrder() {
+        // given
+        // Started game
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when
+        // Apply batch that finishes it, reuses its teams and updates the new games
+        scoreBoard.applyAll(List.of(
+                new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0),
+                new ScoreEvent.GameFinished(POLAND, SPAIN),
+                new ScoreEvent.GameStarted(POLAND, ITALY),
+                new ScoreEvent.GameStarted(MEXICO, SPAIN),
+                new ScoreEvent.ScoreUpdated(POLAND, ITALY, 2, 2),
+                new ScoreEvent.ScoreUpdated(SPAIN, MEXICO, 1, 0)
+        ));
+
+        // then
+        // Summary should reflect the final state of the batch
+        final List<Game> summary = scoreBoard.getSummaryByTotalScore();
+        assertEquals(2, summary.size());
+        assertEquals(POLAND, summary.get(0).getHomeTeam());
+        assertEquals(ITALY, summary.get(0).getAwayTeam());
+        assertEquals(4, summary.get(0).getTotalScore());
+        assertEquals(MEXICO, summary.get(1).getHomeTeam());
+        assertEquals(1, summary.get(1).getHomeScore());
+        assertEquals(0, summary.get(1).getAwayScore());
+    }
+
+    @Test
+    public void shouldApplyNothingWhenAnyEventOfBatchIsRejected() {
+        // given
+        // Started game with updated score
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+
+        // when
+        // Apply batch whose last event refers to a team that is busy
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.applyAll(List.of(
+                        new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 2, 0),
+                        new ScoreEvent.GameStarted(GERMANY, FRANCE),
+                        new ScoreEvent.GameStarted(ITALY, FRANCE)
+                ))
+        );
+
+        // then
+        // Should name the failed event and leave the board untouched
+        assertEquals("Event 2 rejected: " + String.format(TEAM_BUSY_ERROR, FRANCE), exception.getMessage());
+        final List<Game> summary = scoreBoard.getSummaryByTotalScore();
+        assertEquals(1, summary.size());
+        assertEquals(1, summary.get(0).getHomeScore());
+    }
+
+    @Test
+    public void shouldRejectBatchUpdatingGameFinishedEarlierInBatch() {
+        // given
+        // Started game
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when
+        // Apply batch that updates the game after finishing it
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.applyAll(List.of(
+                        new ScoreEvent.GameFinished(POLAND, SPAIN),
+                        new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0)
+                ))
+        );
+
+        // then
+        // Should reject the update and keep the game
+        assertEquals("Event 1 rejected: " + GAME_NOT_FOUND_ERROR, exception.getMessage());
+        assertEquals(1, scoreBoard.getGames().size());
+    }
+
+    @Test
+    public void shouldPublishSnapshotOfSummary() {
+        // given
+        // Started games with updated scores
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+        scoreBoard.startGame(GERMANY, FRANCE);
+        scoreBoard.updateScore(GERMANY, FRANCE, 2, 1);
+
+        // when
+        final ScoreBoardSnapshot snapshot = scoreBoard.getSnapshot();
+
+        // then
+        // Snapshot should hold the summary as records and the version of the board
+        assertEquals(4, snapshot.version());
+        assertEquals(List.of(
+                new ScoreBoardSnapshot.GameScore(GERMANY, FRANCE, 2, 1),
+                new ScoreBoardSnapshot.GameScore(POLAND, SPAIN, 1, 0)
+        ), snapshot.games());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.games().clear());
+    }
+
+    @Test
+    public void shouldKeepSnapshotUntilScoreBoardChanges() {
+        // given
+        // Started games and a snapshot of them
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.startGame(GERMANY, FRANCE);
+        final ScoreBoardSnapshot first = scoreBoard.getSnapshot();
+
+        // when
+        // Read again, then change one game
+        final ScoreBoardSnapshot second = scoreBoard.getSnapshot();
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+        final ScoreBoardSnapshot afterUpdate = scoreBoard.getSnapshot();
+
+        // then
+        // Old snapshot should stay as it was and the unchanged game should keep its record
+        assertSame(first, second);
+        assertEquals(0, first.games().get(1).homeScore());
+        assertEquals(1, afterUpdate.games().get(0).homeScore());
+        assertSame(first.games().get(0), afterUpdate.games().get(1));
+        assertTrue(afterUpdate.version() > first.version());
+    }
+
+    @Test
+    public void shouldServeConsistentSnapshotsToReadersWhileScoresChange() throws InterruptedException {
+        // given
+        // Started games
+        final int games = 20;
+        for (int i = 0; i < games; i++) {
+            scoreBoard.startGame("Home" + (char) ('A' + i), "Away" + (char) ('A' + i));
+        }
+        final AtomicReference<String> failure = new AtomicReference<>();
+        final Thread reader = new Thread(() -> {
+            long lastVersion = -1;
+
+            while (!Thread.currentThread().isInterrupted()) {
+                final ScoreBoardSnapshot snapshot = scoreBoard.getSnapshot();
+                final List<ScoreBoardSnapshot.GameScore> ranked = snapshot.games();
+
+                for (int i = 1; i < ranked.size(); i++) {
+                    if (ranked.get(i - 1).totalScore() < ranked.get(i).totalScore()) {
+                        failure.set("Snapshot " + snapshot.version() + " is not ordered");
+                    }
+                }
+                if (ranked.size() != games || snapshot.version() < lastVersion) {
+                    failure.set("Snapshot " + snapshot.version() + " is inconsistent");
+                }
+                lastVersion = snapshot.version();
+            }
+        });
+
+        // when
+        // Scores change while another thread reads snapshots
+        reader.start();
+        for (int update = 0; update < 50_000; update++) {
+            final char team = (char) ('A' + update % games);
+            scoreBoard.updateScore("Home" + team, "Away" + team, update % 7, update % 3);
+        }
+        reader.interrupt();
+        reader.join();
+
+        // then
+        // Every snapshot seen should have been complete and ordered
+        assertNull(failure.get());
+    }
+
+    @Test
+    public void shouldReturnTopGamesWithSummaryOrder() {
+        // given
+        // Started games with updated scores, two of them level
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 1, 1);
+        scoreBoard.startGame(GERMANY, FRANCE);
+        scoreBoard.updateScore(GERMANY, FRANCE, 0, 1);
+        scoreBoard.startGame(ITALY, "Brazil");
+        scoreBoard.updateScore(ITALY, "Brazil", 2, 0);
+
+        // when
+        final List<Game> topTwo = scoreBoard.getTopByTotalScore(2);
+        final List<Game> all = scoreBoard.getTopByTotalScore(10);
+
+        // then
+        // Should return the first games of the summary, most recently started first on ties
+        assertEquals(2, topTwo.size());
+        assertEquals(ITALY, topTwo.get(0).getHomeTeam());
+        assertEquals(POLAND, topTwo.get(1).getHomeTeam());
+        assertEquals(scoreBoard.getSummaryByTotalScore(), all);
+        assertTrue(scoreBoard.getTopByTotalScore(0).isEmpty());
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenTopLimitIsNegative() {
+        // when + then
+        // Should throw exception with correct message
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.getTopByTotalScore(-1)
+        );
+        assertEquals("Number of games cannot be negative.", exception.getMessage());
+    }
+
+    @Test
+    public void shouldPublishEventsOfTheBoardToSubscribers() {
+        // given
+        // Board delivering events on the calling thread and a subscriber requesting everything
+        final ScoreBoard board = new ScoreBoard(Runnable::run);
+        final List<ScoreEvent> events = new ArrayList<>();
+        board.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ScoreEvent event) {
+                events.add(event);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        // when
+        // Start, update with switched teams and finish game
+        board.startGame(POLAND, SPAIN);
+        board.updateScore(SPAIN, POLAND, 0, 1);
+        board.finishGame(POLAND, SPAIN);
+
+        // then
+        // Subscriber should get every event with the teams and score of the game
+        assertEquals(List.of(
+                new ScoreEvent.GameStarted(POLAND, SPAIN),
+                new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 0, 1),
+                new ScoreEvent.GameFinished(POLAND, SPAIN)
+        ), events);
+    }
+
+    @Test
+    public void shouldShareTeamNamesBetweenGamesOfTheSameTeam() {
+        // given
+        // Finished game of POLAND
+        scoreBoard.startGame(new String(POLAND), SPAIN);
+        final String firstName = scoreBoard.getSummaryByTotalScore().get(0).getHomeTeam();
+        scoreBoard.finishGame(POLAND, SPAIN);
+
+        // when
+        // POLAND plays again, its name passed as another string
+        scoreBoard.startGame(new String(POLAND), ITALY);
+
+        // then
+        // Both games should hold the same string instance
+        assertSame(firstName, scoreBoard.getSummaryByTotalScore().get(0).getHomeTeam());
+    }
+
+    @Test
+    public void shouldValidateNameOfKnownTeamSpelledDifferently() {
+        // given
+        // SPAIN already registered
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.finishGame(POLAND, SPAIN);
+
+        // when + then
+        // A spelling that only matches SPAIN ignoring case should still be validated
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.startGame(ITALY, "\u017Fpain")
+        );
+        assertEquals(TEAM_NAME_ERROR, exception.getMessage());
+    }
+
+    @Test
+    public void shouldAcceptOnlyNonEmptyNamesOfAsciiLetters() {
+        // when + then
+        assertTrue(ScoreBoard.isLettersOnly("Poland"));
+        assertTrue(ScoreBoard.isLettersOnly("zZaA"));
+        assertFalse(ScoreBoard.isLettersOnly(null));
+        assertFalse(ScoreBoard.isLettersOnly(""));
+        assertFalse(ScoreBoard.isLettersOnly("Costa Rica"));
+        assertFalse(ScoreBoard.isLettersOnly("Team1"));
+        assertFalse(ScoreBoard.isLettersOnly("Cura\u00E7ao"));
+        assertFalse(ScoreBoard.isLettersOnly("Poland["));
+    }
+
+    @Test
+    public void shouldStartAllFixturesInOrder() {
+        // when
+        scoreBoard.startGames(List.of(new Fixture(POLAND, SPAIN), new Fixture(ITALY, FRANCE)));
+
+        // then
+        // Both games should be on the board, the later fixture first on the tie
+        final List<Game> summary = scoreBoard.getSummaryByTotalScore();
+        assertEquals(2, summary.size());
+        assertEquals(ITALY, summary.get(0).getHomeTeam());
+        assertEquals(POLAND, summary.get(1).getHomeTeam());
+        assertEquals(1, scoreBoard.getSnapshot().version());
+    }
+
+    @Test
+    public void shouldReportEveryRejectedFixtureAndStartNone() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when
+        // Fixtures conflicting with the board, with each other and with the naming rules
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.startGames(List.of(
+                        new Fixture(SPAIN, POLAND),
+                        new Fixture(ITALY, FRANCE),
+                        new Fixture("france", ITALY),
+                        new Fixture(MEXICO, "Can@da"),
+                        new Fixture(BRAZIL, FRANCE),
+                        new Fixture(GERMANY, SPAIN)
+                ))
+        );
+
+        // then
+        // Should name every rejected fixture and leave the board untouched
+        assertEquals("5 of 6 fixtures rejected:"
+                + System.lineSeparator() + "Fixture 0 (Spain - Poland): " + GAME_EXISTS_ERROR
+                + System.lineSeparator() + "Fixture 2 (france - Italy): " + GAME_EXISTS_ERROR
+                + System.lineSeparator() + "Fixture 3 (Mexico - Can@da): " + TEAM_NAME_ERROR
+                + System.lineSeparator() + "Fixture 4 (Brazil - France): " + String.format(TEAM_BUSY_ERROR, FRANCE)
+                + System.lineSeparator() + "Fixture 5 (Germany - Spain): " + String.format(TEAM_BUSY_ERROR, SPAIN),
+                exception.getMessage());
+        assertEquals(1, scoreBoard.getSummaryByTotalScore().size());
+        assertDoesNotThrow(() -> scoreBoard.startGame(ITALY, FRANCE));
+    }
+
+    @Test
+    public void shouldStartLargeBatchOfFixturesValidatedInParallel() {
+        // given
+        // Batch large enough to check its team names in parallel
+        final List<Fixture> fixtures = new ArrayList<>();
+        for (int i = 0; i < ScoreBoard.PARALLEL_VALIDATION_THRESHOLD; i++) {
+            fixtures.add(new Fixture(teamName(2 * i), teamName(2 * i + 1)));
+        }
+
+        // when
+        scoreBoard.startGames(fixtures);
+
+        // then
+        assertEquals(fixtures.size(), scoreBoard.getSummaryByTotalScore().size());
+        assertEquals(teamName(2 * fixtures.size() - 2), scoreBoard.getSummaryByTotalScore().get(0).getHomeTeam());
+
+        // when
+        // Same batch again, one fixture with an invalid name
+        fixtures.set(7, new Fixture("Team7", "Rival"));
+        final IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> scoreBoard.startGames(fixtures)
+        );
+
+        // then
+        assertTrue(exception.getMessage().contains("Fixture 7 (Team7 - Rival): " + TEAM_NAME_ERROR));
+    }
+
+    @Test
+    public void shouldReportStatusOfUpdatesAndFinishesWithoutThrowing() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when + then
+        // Update with switched teams should apply, invalid scores and unknown games should be reported
+        assertEquals(ScoreBoardStatus.OK, scoreBoard.tryUpdateScore(SPAIN, POLAND, 2, 1));
+        assertEquals(ScoreBoardStatus.INVALID_SCORE, scoreBoard.tryUpdateScore(POLAND, SPAIN, -1, 0));
+        assertEquals(ScoreBoardStatus.INVALID_SCORE, scoreBoard.tryUpdateScore(POLAND, SPAIN, Game.MAX_SCORE + 1, 0));
+        assertEquals(ScoreBoardStatus.GAME_NOT_FOUND, scoreBoard.tryUpdateScore(ITALY, FRANCE, 1, 0));
+        assertEquals(2, scoreBoard.getSummaryByTotalScore().get(0).getHomeScore());
+
+        assertEquals(ScoreBoardStatus.OK, scoreBoard.tryFinishGame(POLAND, SPAIN));
+        assertEquals(ScoreBoardStatus.GAME_NOT_FOUND, scoreBoard.tryFinishGame(POLAND, SPAIN));
+        assertEquals(ScoreBoardStatus.GAME_NOT_FOUND, scoreBoard.tryUpdateScore(POLAND, SPAIN, 3, 1));
+        assertTrue(scoreBoard.getSummaryByTotalScore().isEmpty());
+    }
+
+    @Test
+    public void shouldApplyOnlyFirstCopyOfFeedUpdates() {
+        // given
+        // Two feeds delivering the same updates, the second one late and out of order
+        final ScoreBoardMetrics metrics = scoreBoard.enableMetrics();
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.startGame(ITALY, FRANCE);
+        scoreBoard.tryUpdateScore(POLAND, SPAIN, 1L, 1, 0);
+        scoreBoard.tryUpdateScore(POLAND, SPAIN, 2L, 2, 0);
+
+        // when
+        final ScoreBoardStatus duplicate = scoreBoard.tryUpdateScore(SPAIN, POLAND, 2L, 2, 0);
+        final ScoreBoardStatus late = scoreBoard.tryUpdateScore(POLAND, SPAIN, 1L, 1, 0);
+        final ScoreBoardStatus otherGame = scoreBoard.tryUpdateScore(ITALY, FRANCE, 1L, 0, 1);
+
+        // then
+        assertEquals(ScoreBoardStatus.STALE_UPDATE, duplicate);
+        assertEquals(ScoreBoardStatus.STALE_UPDATE, late);
+        assertEquals(ScoreBoardStatus.OK, otherGame);
+        assertEquals(2, scoreBoard.getGames().find(POLAND, SPAIN).orElseThrow().getHomeScore());
+        assertEquals(POLAND, scoreBoard.getSummaryByTotalScore().get(0).getHomeTeam());
+        assertEquals(2, metrics.errorCount(ScoreBoardStatus.STALE_UPDATE));
+        assertEquals(ScoreBoardStatus.INVALID_SCORE, scoreBoard.tryUpdateScore(POLAND, SPAIN, 3L, -1, 0));
+        assertEquals(ScoreBoardStatus.GAME_NOT_FOUND, scoreBoard.tryUpdateScore(POLAND, FRANCE, 3L, 1, 0));
+    }
+
+    @Test
+    public void shouldReportStatusOfGameStartsWithoutThrowing() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+
+        // when + then
+        // Each rejection of startGame should have its status
+        assertEquals(ScoreBoardStatus.GAME_EXISTS, scoreBoard.tryStartGame(SPAIN, POLAND));
+        assertEquals(ScoreBoardStatus.INVALID_TEAM_NAME, scoreBoard.tryStartGame("It@ly", FRANCE));
+        assertEquals(ScoreBoardStatus.INVALID_TEAM_NAME, scoreBoard.tryStartGame(ITALY, ITALY));
+        assertEquals(ScoreBoardStatus.INVALID_TEAM_NAME, scoreBoard.tryStartGame(ITALY, "F".repeat(36)));
+        assertEquals(ScoreBoardStatus.TEAM_BUSY, scoreBoard.tryStartGame(ITALY, SPAIN));
+        assertEquals(ScoreBoardStatus.OK, scoreBoard.tryStartGame(ITALY, FRANCE));
+        assertEquals(2, scoreBoard.getSummaryByTotalScore().size());
+    }
+
+    @Test
+    public void shouldLookUpGamesThroughReadOnlyView() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.startGame(ITALY, FRANCE);
+        final GamesView games = scoreBoard.getGames();
+
+        // when
+        scoreBoard.finishGame(POLAND, SPAIN);
+        scoreBoard.startGame(MEXICO, CANADA);
+
+        // then
+        // View should follow the board and find games by pair, team and ID
+        assertSame(games, scoreBoard.getGames());
+        assertEquals(List.of(ITALY, MEXICO), games.stream().map(Game::getHomeTeam).toList());
+        final Game game = games.find("france", ITALY).orElseThrow();
+        assertSame(game, games.findByTeam(FRANCE).orElseThrow());
+        assertSame(game, games.findById(scoreBoard.getGameId(ITALY, FRANCE)).orElseThrow());
+        assertTrue(games.contains(game));
+        assertTrue(games.find(POLAND, SPAIN).isEmpty());
+        assertTrue(games.findByTeam(POLAND).isEmpty());
+        assertTrue(games.findByTeam(BRAZIL).isEmpty());
+        assertTrue(games.findById(UniqueGameIdGenerator.NO_GAME_ID).isEmpty());
+        assertTrue(games.findById(scoreBoard.getGameId(POLAND, SPAIN)).isEmpty());
+    }
+
+    @Test
+    public void shouldRejectChangesThroughGamesView() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+        final GamesView games = scoreBoard.getGames();
+        final Game game = games.iterator().next();
+
+        // when + then
+        assertThrows(UnsupportedOperationException.class, () -> games.remove(game));
+        assertThrows(UnsupportedOperationException.class, games::clear);
+        assertThrows(UnsupportedOperationException.class, () -> games.add(new Game(ITALY, FRANCE)));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            final var iterator = games.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+        assertEquals(1, games.size());
+    }
+
+    @Test
+    public void shouldFindGamesInTotalScoreRange() {
+        // given
+        scoreBoard.startGame(POLAND, SPAIN);
+        scoreBoard.updateScore(POLAND, SPAIN, 3, 2);
+        scoreBoard.startGame(ITALY, FRANCE);
+        scoreBoard.updateScore(ITALY, FRANCE, 1, 0);
+        scoreBoard.startGame(MEXICO, CANADA);
+        scoreBoard.updateScore(MEXICO, CANADA, 4, 1);
+        scoreBoard.startGame(BRAZIL, GERMANY);
+
+        // when + then
+        // Ranges should keep the summary order and include both bounds
+        assertEquals(List.of(MEXICO, POLAND), scoreBoard.getGamesByTotalScore(5, Integer.MAX_VALUE).stream()
+                .map(Game::getHomeTeam).toList());
+        assertEquals(List.of(ITALY, BRAZIL), scoreBoard.getGamesByTotalScore(0, 1).stream()
+                .map(Game::getHomeTeam).toList());
+        assertTrue(scoreBoard.getGamesByTotalScore(2, 4).isEmpty());
+        assertEquals(scoreBoard.getSummaryByTotalScore(),
+                scoreBoard.getGamesByTotalScore(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> scoreBoard.getGamesByTotalScore(3, 2));
+    }
+
+    @Test
+    public void shouldFindGamesStartedSinceGivenTime() {
+        // given
+        // Games started a few minutes apart, the clock going back once
+        final MutableClock clock = new MutableClock(Instant.parse("2026-06-11T18:00:00Z"));
+        scoreBoard = new ScoreBoard(Runnable::run, clock);
+        scoreBoard.startGame(POLAND, SPAIN);
+        clock.advance(Duration.ofMinutes(5));
+        scoreBoard.startGame(ITALY, FRANCE);
+        clock.advance(Duration.ofMinutes(5));
+        scoreBoard.startGame(MEXICO, CANADA);
+        clock.advance(Duration.ofMinutes(-20));
+        scoreBoard.startGame(BRAZIL, GERMANY);
+
+        // when
+        scoreBoard.finishGame(ITALY, FRANCE);
+        final List<Game> recentGames = scoreBoard.getGamesStartedSince(Instant.parse("2026-06-11T18:05:00Z"));
+
+        // then
+        // Games in start order, start times never going back
+        assertEquals(List.of(MEXICO, BRAZIL), recentGames.stream().map(Game::getHomeTeam).toList());
+        assertEquals(Instant.parse("2026-06-11T18:10:00Z"), recentGames.get(1).getStartTime());
+        assertEquals(3, scoreBoard.getGamesStartedSince(Instant.EPOCH).size());
+        assertTrue(scoreBoard.getGamesStartedSince(Instant.parse("2026-06-11T18:10:01Z")).isEmpty());
+    }
+
+    private static String teamName(int index) {
+        return "Team" + (char) ('A' + index / 26 / 26 % 26) + (char) ('A' + index / 26 % 26)
+                + (char) ('A' + index % 26);
+    }
 }
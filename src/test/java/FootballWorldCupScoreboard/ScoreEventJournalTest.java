@@ -0,0 +1,477 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreEventJournalTest {
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final String ITALY = "Italy";
+
+    private static final String FRANCE = "France";
+
+    private static final String MEXICO = "Mexico";
+
+    private static final String CANADA = "Canada";
+
+    private static final String KENYA = "Kenya";
+
+    private static final String BRAZIL = "Brazil";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void shouldRebuildScoreBoardFromJournalAfterRestart() throws IOException {
+        // given
+        // Board journaling every change with group commit
+        final Path journalDirectory = directory.resolve("journal");
+        final ScoreBoardSnapshot before;
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ofMillis(10))) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+            scoreBoard.startGame(POLAND, SPAIN);
+            scoreBoard.updateScore(SPAIN, POLAND, 2, 1);
+            scoreBoard.startGame(ITALY, FRANCE);
+            scoreBoard.compareAndSetScore(ITALY, FRANCE, 0, 0, 1, 1);
+            scoreBoard.applyAll(List.of(
+                    new ScoreEvent.GameFinished(ITALY, FRANCE),
+                    new ScoreEvent.GameStarted(MEXICO, CANADA),
+                    new ScoreEvent.ScoreUpdated(MEXICO, CANADA, 0, 4)
+            ));
+            before = scoreBoard.getSnapshot();
+        }
+
+        // when
+        // Board is created again from the journal
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ofMillis(10))) {
+            final ScoreBoard recovered = new ScoreBoard(Runnable::run, journal);
+
+            // then
+            // Board should have the same games and scores and keep journaling
+            assertEquals(before.games(), recovered.getSnapshot().games());
+            recovered.finishGame(POLAND, SPAIN);
+        }
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            assertEquals(1, new ScoreBoard(Runnable::run, journal).getSummaryByTotalScore().size());
+        }
+    }
+
+    @Test
+    public void shouldRecoverChangesMadeThroughNonAsciiSpellingOfTeam() throws IOException {
+        // given
+        // Game of KENYA updated and finished through a spelling with the Kelvin sign for K, one by one and in a batch
+        final Path journalDirectory = directory.resolve("journal");
+        final String kelvinKenya = "\u212Aenya";
+        final ScoreBoardSnapshot before;
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+            scoreBoard.startGame(KENYA, BRAZIL);
+            scoreBoard.updateScore(kelvinKenya, BRAZIL, 1, 0);
+            scoreBoard.applyAll(List.of(new ScoreEvent.ScoreUpdated(kelvinKenya, BRAZIL, 2, 0)));
+            scoreBoard.startGame(POLAND, SPAIN);
+            scoreBoard.finishGame(kelvinKenya, BRAZIL);
+            before = scoreBoard.getSnapshot();
+        }
+
+        // when
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            final ScoreBoard recovered = new ScoreBoard(Runnable::run, journal);
+
+            // then
+            // Board should be recovered with the finished game in its archive
+            assertEquals(before.games(), recovered.getSnapshot().games());
+            assertEquals(2, recovered.getArchive().get(0).homeScore());
+        }
+    }
+
+    @Test
+    public void shouldNotJournalRejectedChanges() throws IOException {
+        // given
+        // Board journaling synchronously
+        final Path journalDirectory = directory.resolve("journal");
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+            scoreBoard.startGame(POLAND, SPAIN);
+
+            // when
+            // Changes that the board rejects
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGame(POLAND, ITALY));
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGame(ITALY, ITALY));
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.startGame(ITALY, "A".repeat(36)));
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.updateScore(POLAND, SPAIN, -1, 0));
+            assertThrows(IllegalArgumentException.class, () -> scoreBoard.applyAll(List.of(
+                    new ScoreEvent.GameFinished(POLAND, SPAIN),
+                    new ScoreEvent.GameFinished(POLAND, SPAIN)
+            )));
+            assertFalse(scoreBoard.compareAndSetScore(POLAND, SPAIN, 1, 0, 2, 0));
+        }
+
+        // then
+        // Journal should only hold the started game, and the board should recover from it
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            assertEquals(List.of(new ScoreEvent.GameStarted(POLAND, SPAIN)), journal.recoveredEvents());
+            assertEquals(1, new ScoreBoard(Runnable::run, journal).getGames().size());
+        }
+    }
+
+    @Test
+    public void shouldLeaveScoreUnchangedWhenJournalRejectsConditionalUpdate() throws IOException {
+        // given
+        // Board whose journal is closed after the game started
+        final ScoreEventJournal journal = ScoreEventJournal.open(directory.resolve("journal"), Duration.ZERO);
+        final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+        scoreBoard.startGame(POLAND, SPAIN);
+        journal.close();
+
+        // when
+        assertThrows(IllegalStateException.class, () -> scoreBoard.compareAndSetScore(POLAND, SPAIN, 0, 0, 1, 0));
+        assertThrows(IllegalStateException.class, () -> scoreBoard.tryUpdateScore(POLAND, SPAIN, 1L, 1, 0));
+
+        // then
+        // Nothing should be applied that is not in the journal
+        assertEquals(0, scoreBoard.getGames().find(POLAND, SPAIN).orElseThrow().getTotalScore());
+        assertEquals(0, scoreBoard.getSnapshot().games().get(0).totalScore());
+    }
+
+    @Test
+    public void shouldDropLateSequencedUpdateAfterRecovery() throws IOException {
+        // given
+        // Two boards that applied the same numbered update, only one of them checkpointed after it
+        final Path plainDirectory = directory.resolve("plain");
+        final Path checkpointedDirectory = directory.resolve("checkpointed");
+
+        for (Path journalDirectory : List.of(plainDirectory, checkpointedDirectory)) {
+            try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+                final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+                scoreBoard.startGame(POLAND, SPAIN);
+                scoreBoard.tryUpdateScore(POLAND, SPAIN, 5L, 2, 0);
+                if (journalDirectory == checkpointedDirectory) {
+                    scoreBoard.checkpoint();
+                }
+            }
+        }
+
+        for (Path journalDirectory : List.of(plainDirectory, checkpointedDirectory)) {
+            try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+                final ScoreBoard recovered = new ScoreBoard(Runnable::run, journal);
+
+                // when
+                // Late copy of an older update from the other feed, then the next update
+                final ScoreBoardStatus late = recovered.tryUpdateScore(POLAND, SPAIN, 4L, 1, 0);
+                final ScoreBoardStatus next = recovered.tryUpdateScore(POLAND, SPAIN, 6L, 3, 0);
+
+                // then
+                // Recovered board should still know the latest sequence number of the game
+                assertEquals(ScoreBoardStatus.STALE_UPDATE, late);
+                assertEquals(ScoreBoardStatus.OK, next);
+                assertEquals(3, recovered.getSnapshot().games().get(0).homeScore());
+            }
+        }
+    }
+
+    @Test
+    public void shouldDropTornTailOfJournal() throws IOException {
+        // given
+        // Journal with two complete frames followed by a frame cut short by a crash
+        final Path journalDirectory = directory.resolve("journal");
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            journal.appendAll(List.of(new ScoreEvent.GameStarted(POLAND, SPAIN)));
+            journal.appendAll(List.of(new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0)));
+        }
+        final Path segment = journalDirectory.resolve("segment-0000000000000000000.journal");
+        final long completeLength = Files.size(segment);
+        Files.write(segment, new byte[]{0, 0, 0, 20, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        // when
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+
+            // then
+            // Complete frames should be recovered and the torn tail truncated before new frames are appended
+            assertEquals(List.of(
+                    new ScoreEvent.GameStarted(POLAND, SPAIN),
+                    new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0)
+            ), journal.recoveredEvents());
+            assertEquals(completeLength, Files.size(segment));
+            journal.appendAll(List.of(new ScoreEvent.GameFinished(POLAND, SPAIN)));
+        }
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            assertEquals(3, journal.recoveredEvents().size());
+        }
+    }
+
+    @Test
+    public void shouldRecoverMaximumScore() throws IOException {
+        // given
+        final Path journalDirectory = directory.resolve("journal");
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ofSeconds(1))) {
+            journal.appendAll(List.of(new ScoreEvent.ScoreUpdated(POLAND, SPAIN, Game.MAX_SCORE, 0)));
+        }
+
+        // when
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+
+            // then
+            assertEquals(List.of(new ScoreEvent.ScoreUpdated(POLAND, SPAIN, Game.MAX_SCORE, 0)),
+                    journal.recoveredEvents());
+        }
+    }
+
+    @Test
+    public void shouldRejectAppendAfterClose() throws IOException {
+        // given
+        final ScoreEventJournal journal = ScoreEventJournal.open(directory.resolve("journal"),
+                Duration.ZERO);
+        journal.close();
+
+        // when + then
+        assertThrows(IllegalStateException.class,
+                () -> journal.appendAll(List.of(new ScoreEvent.GameStarted(POLAND, SPAIN))));
+    }
+
+    @Test
+    public void shouldRecoverFromCheckpointAndJournalTail() throws IOException {
+        // given
+        // Board with a checkpoint followed by more changes
+        final Path journalDirectory = directory.resolve("journal");
+        final ScoreBoardSnapshot before;
+        final long gameId;
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ofMillis(10))) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+            scoreBoard.startGame(MEXICO, CANADA);
+            scoreBoard.finishGame(MEXICO, CANADA);
+            scoreBoard.startGame(POLAND, SPAIN);
+            scoreBoard.updateScore(POLAND, SPAIN, 2, 1);
+            scoreBoard.startGame("ITALY", FRANCE);
+            scoreBoard.updateScore(ITALY, FRANCE, 0, 3);
+            scoreBoard.checkpoint();
+
+            scoreBoard.updateScore(POLAND, SPAIN, 3, 1);
+            scoreBoard.startGame(MEXICO, "Brazil");
+            before = scoreBoard.getSnapshot();
+            gameId = scoreBoard.getGameId(POLAND, SPAIN);
+        }
+
+        // when
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+
+            // then
+            // Only the events after the checkpoint should be replayed, onto the state of the checkpoint
+            assertEquals(2, journal.recoveredEvents().size());
+            final ScoreBoard recovered = new ScoreBoard(Runnable::run, journal);
+            assertEquals(before.games(), recovered.getSnapshot().games());
+            assertEquals(gameId, recovered.getGameId(POLAND, SPAIN));
+            assertEquals("ITALY", recovered.getSummaryByTotalScore().get(1).getHomeTeam());
+        }
+    }
+
+    @Test
+    public void shouldRecoverStartTimesOfGamesInProgressFromCheckpoint() throws IOException {
+        // given
+        // Games started an hour apart and checkpointed, recovered the next day
+        final Path journalDirectory = directory.resolve("journal");
+        final MutableClock clock = new MutableClock(Instant.parse("2026-06-11T18:00:00Z"));
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal, clock);
+            scoreBoard.startGame(POLAND, SPAIN);
+            clock.advance(Duration.ofHours(1));
+            scoreBoard.startGame(MEXICO, CANADA);
+            scoreBoard.checkpoint();
+        }
+        clock.advance(Duration.ofDays(1));
+
+        // when
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            final ScoreBoard recovered = new ScoreBoard(Runnable::run, journal, clock);
+
+            // then
+            // The games should keep the times they started at, not the time they were recovered at
+            assertEquals(Instant.parse("2026-06-11T18:00:00Z"),
+                    recovered.getGames().find(POLAND, SPAIN).orElseThrow().getStartTime());
+            assertEquals(List.of(MEXICO), recovered.getGamesStartedSince(Instant.parse("2026-06-11T18:30:00Z"))
+                    .stream().map(Game::getHomeTeam).toList());
+        }
+    }
+
+    @Test
+    public void shouldRecoverSameHistoryWithOrWithoutCheckpoint() throws IOException {
+        // given
+        // Two boards with the same finished game, only one of them checkpointed after it
+        final Path plainDirectory = directory.resolve("plain");
+        final Path checkpointedDirectory = directory.resolve("checkpointed");
+        FinishedGamesArchive.FinishedGame archived = null;
+
+        for (Path journalDirectory : List.of(plainDirectory, checkpointedDirectory)) {
+            try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+                final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+                scoreBoard.startGame(POLAND, SPAIN);
+                scoreBoard.updateScore(POLAND, SPAIN, 2, 0);
+                scoreBoard.finishGame(POLAND, SPAIN);
+                scoreBoard.startGame(MEXICO, CANADA);
+                if (journalDirectory == checkpointedDirectory) {
+                    scoreBoard.checkpoint();
+                    archived = scoreBoard.getArchive().get(0);
+                }
+            }
+        }
+
+        // when
+        try (ScoreEventJournal plainJournal = ScoreEventJournal.open(plainDirectory, Duration.ZERO);
+             ScoreEventJournal checkpointedJournal = ScoreEventJournal.open(checkpointedDirectory, Duration.ZERO)) {
+            final ScoreBoard plain = new ScoreBoard(Runnable::run, plainJournal);
+            final ScoreBoard checkpointed = new ScoreBoard(Runnable::run, checkpointedJournal);
+            plain.addGroup("A", List.of(POLAND, SPAIN));
+            checkpointed.addGroup("A", List.of(POLAND, SPAIN));
+
+            // then
+            // Both boards should have the finished game in their archive and count it in the standings, and the
+            // checkpoint should also keep the game's times
+            assertEquals(1, plain.getArchive().size());
+            assertEquals(1, checkpointed.getArchive().size());
+            assertEquals(2, plain.getArchive().get(0).homeScore());
+            assertEquals(archived, checkpointed.getArchive().get(0));
+            assertEquals(3, plain.getStandings().getTable("A").get(0).points());
+            assertEquals(3, checkpointed.getStandings().getTable("A").get(0).points());
+        }
+    }
+
+    @Test
+    public void shouldDeleteSegmentsReplacedByCheckpoint() throws IOException {
+        // given
+        // Board checkpointed twice
+        final Path journalDirectory = directory.resolve("journal");
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+            scoreBoard.startGame(POLAND, SPAIN);
+            scoreBoard.checkpoint();
+            scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+            scoreBoard.checkpoint();
+            scoreBoard.updateScore(POLAND, SPAIN, 2, 0);
+        }
+
+        // when
+        final List<String> files;
+        try (var list = Files.list(journalDirectory)) {
+            files = list.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+
+        // then
+        // Only the latest checkpoint and the segment after it should be left
+        assertEquals(List.of(
+                "checkpoint-0000000000000000002.snapshot",
+                "segment-0000000000000000002.journal"
+        ), files);
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            assertEquals(List.of(new ScoreBoardSnapshot.GameScore(POLAND, SPAIN, 2, 0)),
+                    new ScoreBoard(Runnable::run, journal).getSnapshot().games());
+        }
+    }
+
+    @Test
+    public void shouldLeaveSegmentFilesToNextCommitWhenRolling() throws IOException {
+        // given
+        // Journal whose group commit is far off, with a started game not committed yet
+        final Path journalDirectory = directory.resolve("journal");
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ofHours(1))) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+            scoreBoard.startGame(POLAND, SPAIN);
+
+            // when
+            final long nextSegment = journal.roll();
+            scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+
+            // then
+            // Rolling should not touch the files, and the next commit should split the events at the roll
+            assertEquals(1L, nextSegment);
+            assertEquals(0L, Files.size(journalDirectory.resolve("segment-0000000000000000000.journal")));
+            assertFalse(Files.exists(journalDirectory.resolve("segment-0000000000000000001.journal")));
+            journal.sync();
+            assertTrue(Files.size(journalDirectory.resolve("segment-0000000000000000000.journal")) > 0);
+            assertTrue(Files.size(journalDirectory.resolve("segment-0000000000000000001.journal")) > 0);
+        }
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            assertEquals(List.of(
+                    new ScoreEvent.GameStarted(POLAND, SPAIN),
+                    new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0)
+            ), journal.recoveredEvents());
+        }
+    }
+
+    @Test
+    public void shouldFallBackToPreviousCheckpointWhenLatestIsIncomplete() throws IOException {
+        // given
+        // Checkpointed board whose next checkpoint was cut short by a crash
+        final Path journalDirectory = directory.resolve("journal");
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            final ScoreBoard scoreBoard = new ScoreBoard(Runnable::run, journal);
+            scoreBoard.startGame(POLAND, SPAIN);
+            scoreBoard.checkpoint();
+            scoreBoard.updateScore(POLAND, SPAIN, 1, 0);
+        }
+        Files.write(journalDirectory.resolve("checkpoint-0000000000000000002.snapshot"), new byte[]{1, 2, 3});
+
+        // when
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+
+            // then
+            // Board should be restored from the complete checkpoint and the segments after it
+            assertEquals(List.of(new ScoreBoardSnapshot.GameScore(POLAND, SPAIN, 1, 0)),
+                    new ScoreBoard(Runnable::run, journal).getSnapshot().games());
+        }
+    }
+
+    @Test
+    public void shouldRejectCheckpointOfBoardWithoutJournal() {
+        // when + then
+        assertThrows(IllegalStateException.class, () -> new ScoreBoard().checkpoint());
+    }
+
+    @Test
+    public void shouldRecoverFixturesStartedInBulk() throws IOException {
+        // given
+        // Fixtures started in bulk on a journaled board
+        final Path journalDirectory = directory.resolve("journal");
+
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            new ScoreBoard(Runnable::run, journal).startGames(List.of(
+                    new Fixture(POLAND, SPAIN),
+                    new Fixture(ITALY, FRANCE)
+            ));
+        }
+
+        // when
+        try (ScoreEventJournal journal = ScoreEventJournal.open(journalDirectory, Duration.ZERO)) {
+            final ScoreBoard recovered = new ScoreBoard(Runnable::run, journal);
+
+            // then
+            // Both games should be restored in their start order
+            assertEquals(List.of(ITALY, POLAND), recovered.getSummaryByTotalScore().stream()
+                    .map(Game::getHomeTeam).toList());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScoreEventPublisherTest {
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final long GAME_ID = 1L;
+
+    private static final long OTHER_GAME_ID = 2L;
+
+    private final ScoreEventPublisher publisher = new ScoreEventPublisher(Runnable::run);
+
+    @Test
+    public void shouldDeliverEventsInOrderUpToRequestedNumber() {
+        // given
+        // Subscriber that requested two events
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        // when
+        // Publish three events
+        publisher.publish(GAME_ID, new ScoreEvent.GameStarted(POLAND, SPAIN));
+        publisher.publish(GAME_ID, new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0));
+        publisher.publish(GAME_ID, new ScoreEvent.GameFinished(POLAND, SPAIN));
+
+        // then
+        // Only the requested events should be delivered until more are requested
+        assertEquals(List.of(
+                new ScoreEvent.GameStarted(POLAND, SPAIN),
+                new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0)
+        ), subscriber.events);
+
+        subscriber.subscription.request(1);
+        assertEquals(new ScoreEvent.GameFinished(POLAND, SPAIN), subscriber.events.get(2));
+    }
+
+    @Test
+    public void shouldCoalesceUndeliveredScoreUpdatesOfTheSameGame() {
+        // given
+        // Subscriber that has not requested anything yet
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        // when
+        // Publish several updates of two games
+        publisher.publish(GAME_ID, new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0));
+        publisher.publish(OTHER_GAME_ID, new ScoreEvent.ScoreUpdated("Italy", "France", 0, 1));
+        publisher.publish(GAME_ID, new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 2, 0));
+        publisher.publish(GAME_ID, new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 3, 0));
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // then
+        // Subscriber should get the latest score of each game in the order of their first pending update
+        assertEquals(List.of(
+                new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 3, 0),
+                new ScoreEvent.ScoreUpdated("Italy", "France", 0, 1)
+        ), subscriber.events);
+    }
+
+    @Test
+    public void shouldNotCoalesceScoreUpdatesAcrossFinishOfTheGame() {
+        // given
+        // Subscriber that has not requested anything yet
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+
+        // when
+        // Publish update, finish, new start and update of the same game
+        publisher.publish(GAME_ID, new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 1, 0));
+        publisher.publish(GAME_ID, new ScoreEvent.GameFinished(POLAND, SPAIN));
+        publisher.publish(GAME_ID, new ScoreEvent.GameStarted(POLAND, SPAIN));
+        publisher.publish(GAME_ID, new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 0, 1));
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        // then
+        // Every event should be delivered
+        assertEquals(4, subscriber.events.size());
+    }
+
+    @Test
+    public void shouldCancelSubscriberThatFallsTooFarBehind() {
+        // given
+        // Subscriber with a buffer of two events that has not requested anything
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber, 2);
+
+        // when
+        // Publish three events that cannot be coalesced
+        publisher.publish(GAME_ID, new ScoreEvent.GameStarted(POLAND, SPAIN));
+        publisher.publish(OTHER_GAME_ID, new ScoreEvent.GameStarted("Italy", "France"));
+        publisher.publish(GAME_ID, new ScoreEvent.GameFinished(POLAND, SPAIN));
+
+        // then
+        // Subscriber should be failed and dropped
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    @Test
+    public void shouldNotWaitForSlowSubscriber() throws InterruptedException {
+        // given
+        // Subscriber blocked in its first onNext on another thread
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ScoreEventPublisher asyncPublisher = new ScoreEventPublisher(executor);
+        final CountDownLatch release = new CountDownLatch(1);
+        final RecordingSubscriber subscriber = new RecordingSubscriber() {
+            @Override
+            public void onNext(ScoreEvent event) {
+                super.onNext(event);
+                awaitQuietly(release);
+            }
+        };
+        asyncPublisher.subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        try {
+            // when
+            // Publish many updates while the subscriber is blocked
+            asyncPublisher.publish(GAME_ID, new ScoreEvent.GameStarted(POLAND, SPAIN));
+            for (int goals = 0; goals < 100_000; goals++) {
+                asyncPublisher.publish(GAME_ID, new ScoreEvent.ScoreUpdated(POLAND, SPAIN, goals & 0xFF, 0));
+            }
+            asyncPublisher.publish(GAME_ID, new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 7, 7));
+
+            // then
+            // Publishing should have completed and the subscriber should catch up with the latest score
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertNull(subscriber.error);
+            assertEquals(new ScoreEvent.ScoreUpdated(POLAND, SPAIN, 7, 7),
+                    subscriber.events.get(subscriber.events.size() - 1));
+            assertTrue(subscriber.events.size() < 100);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<ScoreEvent> {
+
+        final List<ScoreEvent> events = new ArrayList<>();
+
+        Flow.Subscription subscription;
+
+        volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ScoreEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
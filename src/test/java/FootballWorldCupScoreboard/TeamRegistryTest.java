@@ -0,0 +1,127 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class TeamRegistryTest {
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private TeamRegistry teams;
+
+    @BeforeEach
+    void setUp() {
+        teams = new TeamRegistry();
+    }
+
+    @Test
+    public void shouldAssignDenseOrdinalsInRegistrationOrder() {
+        // when
+        // Register two teams
+        final int poland = teams.register(POLAND);
+        final int spain = teams.register(SPAIN);
+
+        // then
+        // Ordinals should start from zero
+        assertEquals(0, poland);
+        assertEquals(1, spain);
+        assertEquals(2, teams.size());
+    }
+
+    @Test
+    public void shouldFindTeamIgnoringCase() {
+        // given
+        // Registered team
+        final int poland = teams.register(POLAND);
+
+        // when
+        // Look the team up and register it again in a different case
+        // then
+        // Should return the same ordinal and keep the first spelling
+        assertEquals(poland, teams.ordinalOf("POLAND"));
+        assertEquals(poland, teams.register("poland"));
+        assertEquals(POLAND, teams.nameOf(poland));
+        assertEquals(1, teams.size());
+    }
+
+    @Test
+    public void shouldReturnUnknownTeamForUnregisteredOrNullName() {
+        // given
+        // Registered team
+        teams.register(POLAND);
+
+        // when + then
+        // Unregistered and null names should not be found
+        assertEquals(TeamRegistry.UNKNOWN_TEAM, teams.ordinalOf(SPAIN));
+        assertEquals(TeamRegistry.UNKNOWN_TEAM, teams.ordinalOf(null));
+    }
+
+    @Test
+    public void shouldKeepAllTeamsWhenGrowing() {
+        // when
+        // Register more teams than the initial capacity
+        for (int i = 0; i < 1000; i++) {
+            teams.register("Team" + i);
+        }
+
+        // then
+        // Every team should keep its ordinal
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, teams.ordinalOf("TEAM" + i));
+        }
+    }
+
+    @Test
+    public void shouldInternOnlyTheRegisteredSpelling() {
+        // given
+        final int ordinal = teams.register(POLAND);
+
+        // when
+        final String sameSpelling = teams.intern(ordinal, new String(POLAND));
+        final String otherSpelling = teams.intern(ordinal, "POLAND");
+
+        // then
+        // Same spelling should share the registered instance, other spellings are kept as they are
+        assertSame(POLAND, sameSpelling);
+        assertEquals("POLAND", otherSpelling);
+    }
+
+    @Test
+    public void shouldFindEveryRegisteredTeamWhileAnotherThreadRegisters() throws Exception {
+        // given
+        // Reader that looks up every team registered so far until the writer is done
+        final int teamCount = 5_000;
+        final AtomicInteger mismatches = new AtomicInteger();
+        final Thread reader = new Thread(() -> {
+            while (teams.size() < teamCount) {
+                final int registered = teams.size();
+                for (int ordinal = 0; ordinal < registered; ordinal++) {
+                    if (teams.ordinalOf("TEAM" + ordinal) != ordinal
+                            || !teams.nameOf(ordinal).equals("Team" + ordinal)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        // when
+        // Register teams across many table growths
+        for (int i = 0; i < teamCount; i++) {
+            teams.register("Team" + i);
+        }
+        reader.join();
+
+        // then
+        // Reader should never have missed a registered team
+        assertEquals(0, mismatches.get());
+        assertEquals(teamCount, teams.size());
+    }
+}
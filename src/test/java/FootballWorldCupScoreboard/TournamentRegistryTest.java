@@ -0,0 +1,147 @@
+package FootballWorldCupScoreboard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentRegistryTest {
+
+    private static final String WORLD_CUP = "WorldCup";
+
+    private static final String QUALIFIERS = "Qualifiers";
+
+    private static final String FRIENDLIES = "Friendlies";
+
+    private static final String POLAND = "Poland";
+
+    private static final String SPAIN = "Spain";
+
+    private static final String ITALY = "Italy";
+
+    private static final String FRANCE = "France";
+
+    private static final String MEXICO = "Mexico";
+
+    private static final String CANADA = "Canada";
+
+    private TournamentRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TournamentRegistry(2);
+        registry.addTournament(WORLD_CUP);
+        registry.addTournament(QUALIFIERS);
+        registry.addTournament(FRIENDLIES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    public void shouldApplyChangesOfEachTournamentInSubmissionOrder() throws Exception {
+        // when
+        // Same teams playing in two tournaments, changes submitted without waiting
+        registry.startGame(WORLD_CUP, POLAND, SPAIN);
+        registry.startGame(QUALIFIERS, POLAND, SPAIN);
+        registry.updateScore(WORLD_CUP, POLAND, SPAIN, 2, 1);
+        final ScoreBoardStatus finished = registry.finishGame(QUALIFIERS, POLAND, SPAIN).get();
+
+        // then
+        // Tournaments should be independent boards
+        assertEquals(ScoreBoardStatus.OK, finished);
+        assertEquals(3, registry.submit(WORLD_CUP, board -> board.getSummaryByTotalScore().get(0).getTotalScore())
+                .get());
+        assertTrue(registry.getSnapshot(QUALIFIERS).games().isEmpty());
+        assertEquals(ScoreBoardStatus.GAME_NOT_FOUND, registry.updateScore(QUALIFIERS, POLAND, SPAIN, 1, 0).get());
+    }
+
+    @Test
+    public void shouldMergeTopGamesAcrossTournaments() throws Exception {
+        // given
+        registry.startGame(WORLD_CUP, POLAND, SPAIN);
+        registry.updateScore(WORLD_CUP, POLAND, SPAIN, 1, 1);
+        registry.startGame(WORLD_CUP, ITALY, FRANCE);
+        registry.updateScore(WORLD_CUP, ITALY, FRANCE, 3, 2);
+        registry.startGame(QUALIFIERS, MEXICO, CANADA);
+        registry.updateScore(QUALIFIERS, MEXICO, CANADA, 0, 2).get();
+        registry.startGame(FRIENDLIES, POLAND, ITALY);
+        registry.updateScore(FRIENDLIES, POLAND, ITALY, 4, 0).get();
+        registry.updateScore(WORLD_CUP, ITALY, FRANCE, 3, 2).get();
+
+        // when
+        final List<TournamentRegistry.TournamentGame> topGames = registry.getTopByTotalScore(3);
+
+        // then
+        // Highest totals first, the earlier registered tournament first on ties
+        assertEquals(List.of(WORLD_CUP, FRIENDLIES, WORLD_CUP), topGames.stream()
+                .map(TournamentRegistry.TournamentGame::tournament).toList());
+        assertEquals(List.of(ITALY, POLAND, POLAND), topGames.stream().map(game -> game.game().homeTeam()).toList());
+        assertEquals(4, registry.getTopByTotalScore(10).size());
+        assertTrue(registry.getTopByTotalScore(0).isEmpty());
+    }
+
+    @Test
+    public void shouldMatchSortedGamesOfAllTournaments() throws Exception {
+        // given
+        // Many games with random scores in every tournament
+        final List<String> tournaments = List.of(WORLD_CUP, QUALIFIERS, FRIENDLIES);
+        final List<CompletableFuture<ScoreBoardStatus>> changes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            final String tournament = tournaments.get(i % tournaments.size());
+            final String homeTeam = "Home" + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+            final String awayTeam = "Away" + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+            registry.startGame(tournament, homeTeam, awayTeam);
+            changes.add(registry.updateScore(tournament, homeTeam, awayTeam, i * 7 % 5, i * 3 % 4));
+        }
+        CompletableFuture.allOf(changes.toArray(CompletableFuture[]::new)).get();
+
+        // when
+        final List<TournamentRegistry.TournamentGame> topGames = registry.getTopByTotalScore(50);
+
+        // then
+        // Totals should match the 50 highest totals of all games
+        final List<Integer> expectedTotals = tournaments.stream()
+                .flatMap(tournament -> registry.getSnapshot(tournament).games().stream())
+                .map(ScoreBoardSnapshot.GameScore::totalScore)
+                .sorted((first, second) -> second - first)
+                .limit(50)
+                .toList();
+        assertEquals(expectedTotals, topGames.stream().map(game -> game.game().totalScore()).toList());
+    }
+
+    @Test
+    public void shouldRejectUnknownAndDuplicateTournamentsAndCompleteFailedOperations() {
+        // when + then
+        final IllegalArgumentException duplicate = assertThrows(
+                IllegalArgumentException.class,
+                () -> registry.addTournament(WORLD_CUP)
+        );
+        assertEquals("Tournament WorldCup is already registered.", duplicate.getMessage());
+
+        final IllegalArgumentException unknown = assertThrows(
+                IllegalArgumentException.class,
+                () -> registry.startGame("EuroCup", POLAND, SPAIN)
+        );
+        assertEquals("Tournament EuroCup is not registered.", unknown.getMessage());
+
+        // Exceptions of submitted operations should complete the future
+        final ExecutionException failed = assertThrows(
+                ExecutionException.class,
+                () -> registry.submit(WORLD_CUP, board -> {
+                    board.finishGame(POLAND, SPAIN);
+                    return null;
+                }).get()
+        );
+        assertInstanceOf(IllegalArgumentException.class, failed.getCause());
+        assertThrows(IllegalArgumentException.class, () -> registry.getTopByTotalScore(-1));
+    }
+}
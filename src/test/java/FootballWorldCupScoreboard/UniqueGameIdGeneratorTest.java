@@ -2,25 +2,29 @@ package FootballWorldCupScoreboard;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 public class UniqueGameIdGeneratorTest {
 
     @Test
     public void generateUniqueGameIdTest() {
         // given
-        // Two teams
-        final String homeTeam = "POLAND";
-        final String awayTeam = "ITALY";
+        // Two team ordinals
+        final int homeTeam = 7;
+        final int awayTeam = 3;
 
         // and
         // Expected id
-        // P=16, O=15, L=12, A=1, N=14, D=4 + I=9, T=20, A=1, L=12, Y=25
-        final String expectedId = "920112251615121144";
+        // Lower ordinal in the upper 32 bits, both ordinals XOR-ed in the lower 32 bits
+        final long expectedId = (3L << 32) | (3L ^ 7L);
 
         // when
         // Generate Id
-        final String actualId = UniqueGameIdGenerator.generateUniqueGameId(homeTeam, awayTeam);
+        final long actualId = UniqueGameIdGenerator.generateUniqueGameId(homeTeam, awayTeam);
 
         // then
         // ID should be generated properly
@@ -28,43 +32,60 @@ public class UniqueGameIdGeneratorTest {
     }
 
     @Test
-    public void generateEmptyStringWhenBothTeamsAreNull() {
-        // given
-        // Two  null teams
-        final String homeTeam = null;
-        final String awayTeam = null;
+    public void generateTheSameIdWhenTeamsAreSwitched() {
+        // when
+        // Generate Id for both orders of the teams
+        final long homeFirst = UniqueGameIdGenerator.generateUniqueGameId(1, 2);
+        final long awayFirst = UniqueGameIdGenerator.generateUniqueGameId(2, 1);
 
-        // and
-        // Expected id
-        final String expectedId = "";
+        // then
+        // IDs should be the same
+        assertEquals(homeFirst, awayFirst);
+    }
+
+    @Test
+    public void generateDifferentIdsForTeamNamesThatSpellTheSameLetterPositions() {
+        // given
+        // "AB"+"C" and "L"+"C" both spell 1-2-3 as letter positions
+        final TeamRegistry teams = new TeamRegistry();
+        final int ab = teams.register("AB");
+        final int c = teams.register("C");
+        final int l = teams.register("L");
 
         // when
         // Generate Id
-        final String actualId = UniqueGameIdGenerator.generateUniqueGameId(homeTeam, awayTeam);
+        final long first = UniqueGameIdGenerator.generateUniqueGameId(ab, c);
+        final long second = UniqueGameIdGenerator.generateUniqueGameId(l, c);
 
         // then
-        // ID should be empty
-        assertEquals(expectedId, actualId);
+        // IDs should be different
+        assertNotEquals(first, second);
     }
 
     @Test
-    public void generateIdWhenOneOfTeamsIsNull() {
-        // given
-        // One  null team
-        final String homeTeam = "POLAND";
-        final String awayTeam = null;
+    public void generateNoGameIdWhenOneOfTeamsIsUnknown() {
+        // when
+        // Generate Id with one unknown team
+        final long actualId = UniqueGameIdGenerator.generateUniqueGameId(4, TeamRegistry.UNKNOWN_TEAM);
 
-        // and
-        // Expected id
-        // P=16, O=15, L=12, A=1, N=14, D=4
-        final String expectedId = "1615121144";
+        // then
+        // ID should mark that there is no such game
+        assertEquals(UniqueGameIdGenerator.NO_GAME_ID, actualId);
+    }
+
+    @Test
+    public void generateIdsWithDistinctHashCodesForGamesOfConsecutiveTeams() {
+        // given
+        // Games between teams registered one after another: 0-1, 2-3, 4-5, ...
+        final Set<Integer> hashCodes = new HashSet<>();
 
         // when
-        // Generate Id
-        final String actualId = UniqueGameIdGenerator.generateUniqueGameId(homeTeam, awayTeam);
+        for (int game = 0; game < 1000; game++) {
+            hashCodes.add(Long.hashCode(UniqueGameIdGenerator.generateUniqueGameId(2 * game, 2 * game + 1)));
+        }
 
         // then
-        // ID should be generated properly
-        assertEquals(expectedId, actualId);
+        // Every ID should land in its own hash bucket
+        assertEquals(1000, hashCodes.size());
     }
 }